@@ -0,0 +1,68 @@
+package rybchynskyi.checkersgui.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the board accessors that move generation and search call on every node
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BoardBenchmark {
+    private Board board;
+
+    @Setup
+    public void setup() {
+        board = new Board();
+    }
+
+    /**
+     * Moves a piece forward and back, leaving the board as it was
+     */
+    @Benchmark
+    public long movePiece() {
+        board.movePiece(5, 0, 4, 1);
+        board.movePiece(4, 1, 5, 0);
+        return board.getHash();
+    }
+
+    /**
+     * Removes a piece and puts it back, leaving the board as it was
+     */
+    @Benchmark
+    public long removePiece() {
+        board.removePiece(2, 1);
+        board.placePiece(2, 1, Player.WHITE);
+        return board.getHash();
+    }
+
+    /**
+     * Checks every square of the board for a piece
+     */
+    @Benchmark
+    public int isEmptyScan() {
+        int empty = 0;
+        for (int i = 0; i < 8; ++i) {
+            for (int j = 0; j < 8; ++j) {
+                if (board.isEmpty(i, j)) empty++;
+            }
+        }
+        return empty;
+    }
+}
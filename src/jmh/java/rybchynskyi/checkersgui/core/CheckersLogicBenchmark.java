@@ -0,0 +1,78 @@
+package rybchynskyi.checkersgui.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures move validation, game-over detection and legal move generation on a middlegame position
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CheckersLogicBenchmark {
+    private static final String[] OPENING = {"3c-4d", "6f-5e", "2b-3c", "7g-6f", "3e-4f", "6b-5a"};
+
+    private CheckersLogic game;
+    private Move validMove;
+    private Move invalidMove;
+
+    @Setup
+    public void setup() {
+        game = new CheckersLogic();
+        for (String move : OPENING) {
+            game.move(Move.parseMove(move));
+        }
+        validMove = game.getMove(0);
+        invalidMove = Move.parseMove("3a-5c");
+    }
+
+    /**
+     * Validates a legal and an illegal move in an unchanged position
+     */
+    @Benchmark
+    public boolean isMoveValid() {
+        return game.isMoveValid(validMove) & game.isMoveValid(invalidMove);
+    }
+
+    /**
+     * Checks for the end of the game in an unchanged position
+     */
+    @Benchmark
+    public boolean isGameOver() {
+        return game.isGameOver();
+    }
+
+    /**
+     * Makes and takes back a move, generating the legal moves of both positions from scratch
+     */
+    @Benchmark
+    public int generateMoves() {
+        game.makeMove(validMove);
+        int replies = game.getMoveCount();
+        game.unmakeMove();
+        return replies + game.getMoveCount();
+    }
+
+    /**
+     * Counts the move tree three plies deep, mostly spent in move generation
+     */
+    @Benchmark
+    public long perft3() {
+        return new Perft(game).perft(3);
+    }
+}
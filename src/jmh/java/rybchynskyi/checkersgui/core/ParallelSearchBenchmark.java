@@ -0,0 +1,86 @@
+package rybchynskyi.checkersgui.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the parallel search scales with the number of threads. Every thread count searches the same positions
+ * to the same depth from an empty table, so the time per operation is the time to depth and the speedup is the ratio
+ * of the single-thread score to the others. A thread count of 0 stands for the number of available processors.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Thread)
+public class ParallelSearchBenchmark {
+    private static final String[][] OPENINGS = {
+            {},
+            {"3c-4d", "6f-5e"},
+            {"3a-4b", "6d-5c", "4b-6d", "7c-5e"},
+            {"3e-4f", "6b-5a", "2d-3e", "7a-6b", "4f-5g", "6h-4f", "4f-2d", "1c-3e"}
+    };
+    private static final int DEPTH = 10;
+    private static final int TABLE_MB = 64;
+
+    @Param({"1", "2", "4", "8", "0"})
+    public int threads;
+
+    private TranspositionTable table;
+    private ParallelSearch search;
+    private CheckersLogic[] positions;
+
+    @Setup
+    public void setup() {
+        table = new TranspositionTable(TABLE_MB);
+        int searchThreads = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+        search = new ParallelSearch(searchThreads, new StandardEvaluator(), table);
+        positions = new CheckersLogic[OPENINGS.length];
+        for (int i = 0; i < OPENINGS.length; ++i) {
+            positions[i] = new CheckersLogic();
+            for (String move : OPENINGS[i]) {
+                positions[i].move(Move.parseMove(move));
+            }
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void clearTable() {
+        table.clear();
+    }
+
+    @TearDown
+    public void tearDown() {
+        search.shutdown();
+    }
+
+    /**
+     * Searches every benchmark position to a fixed depth with all threads
+     * @return the nodes searched by all threads, so the work cannot be optimised away
+     */
+    @Benchmark
+    public long searchToDepth() {
+        long nodes = 0;
+        for (CheckersLogic position : positions) {
+            search.search(position, 0, DEPTH);
+            nodes += search.getNodes() + search.getQuiescenceNodes();
+        }
+        return nodes;
+    }
+}
@@ -0,0 +1,39 @@
+package rybchynskyi.checkersgui.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of user input into coordinates and moves
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParseBenchmark {
+    private String coordinate = "3a";
+    private String move = "3a-4b";
+
+    @Benchmark
+    public Coordinate parseCoordinate() {
+        return Coordinate.parse(coordinate);
+    }
+
+    @Benchmark
+    public Move parseMove() {
+        return Move.parseMove(move);
+    }
+}
@@ -0,0 +1,41 @@
+package rybchynskyi.checkersgui.core;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a whole game of random moves played through the public CheckersLogic API, from the starting position until
+ * one player has no moves left
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomGameBenchmark {
+    private final SplittableRandom random = new SplittableRandom(2024);
+
+    @Benchmark
+    public int playRandomGame() {
+        CheckersLogic game = new CheckersLogic();
+        int plies = 0;
+        while (!game.isGameOver()) {
+            game.move(game.getMove(random.nextInt(game.getMoveCount())));
+            plies++;
+        }
+        return plies;
+    }
+}
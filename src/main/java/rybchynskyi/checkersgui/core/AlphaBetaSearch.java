@@ -0,0 +1,481 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A negamax alpha-beta search over a CheckersLogic position. Every edge of the tree is a whole turn: a multi-jump is
+ * generated as one compound move and applied and taken back in one step, so the player to move alternates on every ply
+ * and the depth counts turns rather than hops. The search walks the tree with makeCompoundMove and unmakeCompoundMove
+ * on a single position, so it allocates nothing per node once its move lists have grown. Moves are searched in the
+ * order given by a MoveOrderer: hash move, captures, killers, then history. The search is deterministic: for a given
+ * position, depth, table contents and sequence of earlier searches on the same instance it always returns the same move
+ * and score. At the horizon the search does not stop in the middle of an exchange: a quiescence search keeps playing
+ * captures while the side to move has one, and only evaluates quiet positions. Captures are mandatory in checkers, so
+ * there is no stand-pat option; the extension is bounded by MAX_QUIESCENCE_PLY instead. A search can be given a
+ * deadline or be stopped from another thread; it then unwinds, restores the position and keeps the result of its
+ * previous completed search.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class AlphaBetaSearch {
+    /**
+     * Score of a won position, less the number of plies needed to win
+     */
+    public static final int WIN_SCORE = 30000;
+    /**
+     * The deepest search that can be requested
+     */
+    public static final int MAX_DEPTH = 64;
+    /**
+     * The most capture plies the quiescence search plays past the nominal depth
+     */
+    public static final int MAX_QUIESCENCE_PLY = 32;
+    static final int MAX_PLY = 128;
+    private static final int INFINITY = WIN_SCORE + 1;
+    private static final int NO_SCORE = Integer.MIN_VALUE;
+    private static final int MAX_MOVES = 32;
+    private static final int TIME_CHECK_INTERVAL = 1024;
+    private static final int INDEX_SHIFT = PackedMove.BITS;
+    private static final int MAX_TABLE_INDEX = 1 << (TranspositionTable.MOVE_BITS - INDEX_SHIFT);
+
+    private final CheckersLogic position;
+    private final Evaluator evaluator;
+    private final TranspositionTable table;
+    private Tablebase tablebase;
+    private final CompoundMoveList[] compoundStack = new CompoundMoveList[MAX_PLY];
+    private final int[][] moveStack = new int[MAX_PLY][MAX_MOVES];
+    private final int[][] capturedStack = new int[MAX_PLY][MAX_MOVES];
+    private final int[][] pvTable = new int[MAX_PLY][MAX_PLY];
+    private final int[] pvLength = new int[MAX_PLY];
+    private final MoveOrderer orderer = new MoveOrderer(MAX_PLY, MAX_MOVES);
+
+    private long nodes;
+    private long quiescenceNodes;
+    private long tablebaseHits;
+    private long cutoffs;
+    private long firstMoveCutoffs;
+    private long elapsedNanos;
+    private int bestMove = PackedMove.NONE;
+    private int bestScore;
+    private List<Move> principalVariation = List.of();
+    private long deadline = Long.MAX_VALUE;
+    private boolean aborted;
+    private volatile boolean stopRequested;
+
+    /**
+     * Constructs a search over a position. The position is modified during the search and restored afterwards, so it
+     * should not be shared with a running game.
+     * @param position the position to search
+     * @param evaluator the static evaluation for leaf positions
+     * @param table the transposition table to use, or null to search without one
+     */
+    public AlphaBetaSearch(CheckersLogic position, Evaluator evaluator, TranspositionTable table) {
+        this.position = position;
+        this.evaluator = evaluator;
+        this.table = table;
+        for (int i = 0; i < MAX_PLY; ++i) {
+            compoundStack[i] = new CompoundMoveList();
+        }
+    }
+
+    /**
+     * Lists the compound moves of the current position in the list of a ply and writes their keys to the move stack.
+     * A key is the first hop of the move with the move's index in the list above it, so that move ordering can look at
+     * the hop while the key still identifies the whole move.
+     * @param ply distance from the root
+     * @return the number of moves
+     */
+    private int generateMoves(int ply) {
+        CompoundMoveList list = compoundStack[ply];
+        position.getCompoundMoves(list);
+        int moveCount = list.size();
+        if (moveStack[ply].length < moveCount) {
+            moveStack[ply] = new int[moveCount];
+            capturedStack[ply] = new int[moveCount];
+        }
+        int[] moves = moveStack[ply];
+        int[] captured = capturedStack[ply];
+        for (int i = 0; i < moveCount; ++i) {
+            moves[i] = list.getHop(i, 0) | i << INDEX_SHIFT;
+            // Every hop of a capture chain takes one piece
+            captured[i] = PackedMove.isCapture(moves[i]) ? list.getHopCount(i) : 0;
+        }
+        return moveCount;
+    }
+
+    /**
+     * Returns the list index of a move key
+     * @param key move key written by generateMoves
+     * @return index into the compound move list of its ply
+     */
+    private static int indexOf(int key) {
+        return key >>> INDEX_SHIFT;
+    }
+
+    /**
+     * Converts a win or loss score from "plies from the root" to "plies from this node" before storing it
+     * @param score search score
+     * @param ply distance from the root
+     * @return score to store
+     */
+    private static int toTable(int score, int ply) {
+        if (score > WIN_SCORE - MAX_PLY) return score + ply;
+        if (score < -WIN_SCORE + MAX_PLY) return score - ply;
+        return score;
+    }
+
+    /**
+     * Converts a stored win or loss score back to "plies from the root"
+     * @param score stored score
+     * @param ply distance from the root
+     * @return search score
+     */
+    private static int fromTable(int score, int ply) {
+        if (score > WIN_SCORE - MAX_PLY) return score - ply;
+        if (score < -WIN_SCORE + MAX_PLY) return score + ply;
+        return score;
+    }
+
+    /**
+     * Sets an endgame tablebase to look up positions with few pieces in. A position the tablebase covers is scored
+     * exactly, without searching below it.
+     * @param tablebase the tablebase, or null to search without one
+     */
+    public void setTablebase(Tablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    /**
+     * Looks the current position up in the tablebase
+     * @param ply distance from the root
+     * @return the exact score for the player to move, or NO_SCORE if the position is not covered
+     */
+    private int probeTablebase(int ply) {
+        if (tablebase == null) return NO_SCORE;
+        int value = tablebase.probe(position);
+        if (value == Tablebase.UNKNOWN) return NO_SCORE;
+        tablebaseHits++;
+        int endPly = ply + Tablebase.distance(value);
+        return Tablebase.isWin(value) ? WIN_SCORE - endPly : -WIN_SCORE + endPly;
+    }
+
+    /**
+     * Sets the time after which a running search is aborted
+     * @param deadline a System.nanoTime value, or Long.MAX_VALUE for no deadline
+     */
+    public void setDeadline(long deadline) {
+        this.deadline = deadline;
+    }
+
+    /**
+     * Asks a running search, possibly on another thread, to abort as soon as possible. The request stays in effect for
+     * later searches.
+     */
+    public void stop() {
+        stopRequested = true;
+    }
+
+    /**
+     * Checks whether the search has run out of time or was stopped
+     * @return true - the search should abort; false - otherwise
+     */
+    private boolean shouldAbort() {
+        return stopRequested || (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0);
+    }
+
+    /**
+     * Searches the current position to a fixed depth. If the search is aborted, the best move, score and principal
+     * variation of the previous completed search are kept.
+     * @param depth the number of plies to search
+     * @return the score of the position for the player to move
+     * @throws IllegalArgumentException if the depth is less than 1 or greater than MAX_DEPTH
+     */
+    public int search(int depth) {
+        if (depth < 1 || depth > MAX_DEPTH) throw new IllegalArgumentException();
+        int previousMove = bestMove;
+        int previousScore = bestScore;
+        nodes = 0;
+        quiescenceNodes = 0;
+        tablebaseHits = 0;
+        cutoffs = 0;
+        firstMoveCutoffs = 0;
+        aborted = false;
+        long start = System.nanoTime();
+        int score = negamax(depth, -INFINITY, INFINITY, 0);
+        elapsedNanos = System.nanoTime() - start;
+        if (aborted) {
+            bestMove = previousMove;
+            bestScore = previousScore;
+        } else {
+            bestScore = score;
+            principalVariation = collectPrincipalVariation();
+        }
+        return bestScore;
+    }
+
+    /**
+     * Expands the principal variation of the root from the PV table into single hops, by replaying it on the position
+     * @return the expected line of play, one Move per hop
+     */
+    private List<Move> collectPrincipalVariation() {
+        List<Move> line = new ArrayList<>();
+        CompoundMoveList list = compoundStack[0];
+        int played = 0;
+        for (; played < pvLength[0]; ++played) {
+            position.getCompoundMoves(list);
+            int index = indexOf(pvTable[0][played]);
+            if (index >= list.size()) break;
+            for (int hop = 0; hop < list.getHopCount(index); ++hop) {
+                line.add(PackedMove.toMove(list.getHop(index, hop)));
+            }
+            position.makeCompoundMove(list, index);
+        }
+        for (; played > 0; --played) {
+            position.unmakeCompoundMove();
+        }
+        return List.copyOf(line);
+    }
+
+    /**
+     * Records a new best move at a ply, followed by the principal variation of its child
+     * @param ply distance from the root
+     * @param move the key of the new best move
+     */
+    private void updatePrincipalVariation(int ply, int move) {
+        pvTable[ply][ply] = move;
+        int childLength = pvLength[ply + 1];
+        System.arraycopy(pvTable[ply + 1], ply + 1, pvTable[ply], ply + 1, childLength - ply - 1);
+        pvLength[ply] = childLength;
+    }
+
+    /**
+     * Recursive negamax search with alpha-beta pruning
+     * @param depth remaining plies
+     * @param alpha lower bound of the window
+     * @param beta upper bound of the window
+     * @param ply distance from the root
+     * @return score for the player to move
+     */
+    private int negamax(int depth, int alpha, int beta, int ply) {
+        pvLength[ply] = ply;
+        if (aborted) return 0;
+        if (++nodes % TIME_CHECK_INTERVAL == 0 && shouldAbort()) {
+            aborted = true;
+            return 0;
+        }
+        int moveCount = position.getMoveCount();
+        if (moveCount == 0) return -WIN_SCORE + ply;
+        if (ply > 0) {
+            int exact = probeTablebase(ply);
+            if (exact != NO_SCORE) return exact;
+        }
+        if (depth == 0) return quiesce(alpha, beta, ply, 0);
+        if (ply == MAX_PLY - 1) return evaluator.evaluate(position);
+
+        long key = position.getHash();
+        int originalAlpha = alpha;
+        int hashMove = PackedMove.NONE;
+        if (table != null) {
+            long entry = table.probe(key);
+            if (entry != TranspositionTable.MISS) hashMove = TranspositionTable.move(entry);
+            if (ply > 0 && entry != TranspositionTable.MISS && TranspositionTable.depth(entry) >= depth) {
+                int score = fromTable(TranspositionTable.score(entry), ply);
+                int bound = TranspositionTable.bound(entry);
+                if (bound == TranspositionTable.BOUND_EXACT) return score;
+                if (bound == TranspositionTable.BOUND_LOWER) alpha = Math.max(alpha, score);
+                if (bound == TranspositionTable.BOUND_UPPER) beta = Math.min(beta, score);
+                if (alpha >= beta) return score;
+            }
+        }
+
+        moveCount = generateMoves(ply);
+        int[] moves = moveStack[ply];
+        CompoundMoveList list = compoundStack[ply];
+        if (indexOf(hashMove) >= moveCount) hashMove = PackedMove.NONE;
+        // At the root the best move of the previous search starts a deeper search from the line known to be good
+        if (ply == 0 && bestMove != PackedMove.NONE) hashMove = bestMove;
+        orderer.order(moves, capturedStack[ply], moveCount, hashMove, ply);
+
+        int best = -INFINITY;
+        int bestLocal = PackedMove.NONE;
+        for (int i = 0; i < moveCount; ++i) {
+            position.makeCompoundMove(list, indexOf(moves[i]));
+            int score = -negamax(depth - 1, -beta, -alpha, ply + 1);
+            position.unmakeCompoundMove();
+            if (aborted) return 0;
+
+            if (score > best) {
+                best = score;
+                bestLocal = moves[i];
+                if (ply == 0) bestMove = bestLocal;
+            }
+            if (best > alpha) {
+                alpha = best;
+                updatePrincipalVariation(ply, bestLocal);
+            }
+            if (alpha >= beta) {
+                cutoffs++;
+                if (i == 0) firstMoveCutoffs++;
+                orderer.recordCutoff(moves[i], depth, ply);
+                break;
+            }
+        }
+
+        if (table != null) {
+            int bound = best <= originalAlpha ? TranspositionTable.BOUND_UPPER
+                    : best >= beta ? TranspositionTable.BOUND_LOWER
+                    : TranspositionTable.BOUND_EXACT;
+            int tableMove = indexOf(bestLocal) < MAX_TABLE_INDEX ? bestLocal : PackedMove.NONE;
+            table.store(key, tableMove, toTable(best, ply), depth, bound);
+        }
+        return best;
+    }
+
+    /**
+     * Searches the captures pending at the horizon until the position is quiet. Every capture chain is searched, since
+     * the side to move may not decline one; the transposition table and move ordering are not used.
+     * @param alpha lower bound of the window
+     * @param beta upper bound of the window
+     * @param ply distance from the root
+     * @param quiescencePly distance from the horizon
+     * @return score for the player to move
+     */
+    private int quiesce(int alpha, int beta, int ply, int quiescencePly) {
+        pvLength[ply] = ply;
+        if (aborted) return 0;
+        if (++quiescenceNodes % TIME_CHECK_INTERVAL == 0 && shouldAbort()) {
+            aborted = true;
+            return 0;
+        }
+        int moveCount = position.getMoveCount();
+        if (moveCount == 0) return -WIN_SCORE + ply;
+        int exact = probeTablebase(ply);
+        if (exact != NO_SCORE) return exact;
+        if (!position.hasCaptures() || quiescencePly == MAX_QUIESCENCE_PLY || ply == MAX_PLY - 1)
+            return evaluator.evaluate(position);
+
+        CompoundMoveList list = compoundStack[ply];
+        position.getCompoundMoves(list);
+        moveCount = list.size();
+        int best = -INFINITY;
+        for (int i = 0; i < moveCount; ++i) {
+            position.makeCompoundMove(list, i);
+            int score = -quiesce(-beta, -alpha, ply + 1, quiescencePly + 1);
+            position.unmakeCompoundMove();
+            if (aborted) return 0;
+
+            best = Math.max(best, score);
+            alpha = Math.max(alpha, best);
+            if (alpha >= beta) break;
+        }
+        return best;
+    }
+
+    /**
+     * Returns the best move found by the last search
+     * @return the first hop of the best move, or null if the position had no moves. A multi-jump is played one hop at a
+     * time through CheckersLogic.move, so its later hops are returned by searching the positions in between.
+     */
+    public Move getBestMove() {
+        return bestMove == PackedMove.NONE ? null : PackedMove.toMove(bestMove);
+    }
+
+    /**
+     * Returns the first hop of the best move found by the last search in its packed form
+     * @return the packed hop, or PackedMove.NONE if the position had no moves
+     */
+    public int getBestPackedMove() {
+        return bestMove & ((1 << PackedMove.BITS) - 1);
+    }
+
+    /**
+     * Returns the score of the last search
+     * @return score for the player to move at the root
+     */
+    public int getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * Returns the principal variation of the last completed search
+     * @return the expected line of play, starting with the best move
+     */
+    public List<Move> getPrincipalVariation() {
+        return principalVariation;
+    }
+
+    /**
+     * Checks whether the last search was aborted before it finished
+     * @return true - the search ran out of time or was stopped; false - it completed
+     */
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Returns the number of positions visited by the last search
+     * @return nodes searched
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the number of positions visited by the quiescence search of the last search. These are counted apart
+     * from getNodes, which covers the main search only.
+     * @return quiescence nodes searched
+     */
+    public long getQuiescenceNodes() {
+        return quiescenceNodes;
+    }
+
+    /**
+     * Returns the number of positions of the last search that were scored from the tablebase
+     * @return tablebase hits
+     */
+    public long getTablebaseHits() {
+        return tablebaseHits;
+    }
+
+    /**
+     * Returns the number of nodes of the last search that ended in a beta cutoff
+     * @return cutoff count
+     */
+    public long getCutoffs() {
+        return cutoffs;
+    }
+
+    /**
+     * Returns the number of beta cutoffs of the last search that were caused by the first move searched
+     * @return first-move cutoff count
+     */
+    public long getFirstMoveCutoffs() {
+        return firstMoveCutoffs;
+    }
+
+    /**
+     * Returns the share of beta cutoffs caused by the first move searched. The closer it is to 1, the better the move
+     * ordering and the more of the tree alpha-beta prunes.
+     * @return first-move cutoff rate from 0 to 1
+     */
+    public double getFirstMoveCutoffRate() {
+        return cutoffs == 0 ? 0 : (double) firstMoveCutoffs / cutoffs;
+    }
+
+    /**
+     * Returns the wall-clock time of the last search
+     * @return elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns the search speed of the last search, counting main and quiescence nodes
+     * @return nodes searched per second
+     */
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : (nodes + quiescenceNodes) * 1_000_000_000L / elapsedNanos;
+    }
+}
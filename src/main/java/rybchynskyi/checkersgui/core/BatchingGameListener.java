@@ -0,0 +1,86 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+
+/**
+ * A GameListener that hands events over to another listener asynchronously and in batches. Events are copied into a
+ * buffer as they happen; the first event of a batch schedules one delivery task on an executor, which passes every
+ * event buffered by then to the target. Two preallocated buffers take turns, one filling while the other is
+ * delivered, so once the buffers have grown to the largest batch no event and no task is allocated. With
+ * Platform::runLater as the executor, a game played on any thread reaches a JavaFX view on the application thread.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class BatchingGameListener implements GameListener {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final GameListener target;
+    private final Executor executor;
+    private final Runnable deliveryTask = this::deliver;
+    private GameEvent[] pending = newBuffer(INITIAL_CAPACITY);
+    private GameEvent[] delivering = newBuffer(INITIAL_CAPACITY);
+    private int pendingCount;
+    private boolean scheduled;
+
+    /**
+     * Constructs the listener
+     * @param target the listener the batches are delivered to, one event at a time
+     * @param executor runs the delivery tasks; never more than one at a time
+     */
+    public BatchingGameListener(GameListener target, Executor executor) {
+        this.target = target;
+        this.executor = executor;
+    }
+
+    private static GameEvent[] newBuffer(int capacity) {
+        return grow(new GameEvent[0], capacity);
+    }
+
+    private static GameEvent[] grow(GameEvent[] buffer, int capacity) {
+        GameEvent[] grown = Arrays.copyOf(buffer, capacity);
+        for (int i = buffer.length; i < capacity; ++i) {
+            grown[i] = new GameEvent();
+        }
+        return grown;
+    }
+
+    /**
+     * Buffers a copy of the event, and schedules a delivery unless one is already scheduled
+     * @param event the event
+     */
+    @Override
+    public synchronized void onEvent(GameEvent event) {
+        if (pendingCount == pending.length) pending = grow(pending, 2 * pending.length);
+        pending[pendingCount++].copyFrom(event);
+        if (!scheduled) {
+            scheduled = true;
+            executor.execute(deliveryTask);
+        }
+    }
+
+    /**
+     * Delivers the buffered events. New events fill the other buffer meanwhile, and are delivered by a follow-up task.
+     */
+    private void deliver() {
+        GameEvent[] batch;
+        int count;
+        synchronized (this) {
+            batch = pending;
+            count = pendingCount;
+            pending = delivering;
+            pendingCount = 0;
+            delivering = batch;
+        }
+        for (int i = 0; i < count; ++i) {
+            target.onEvent(batch[i]);
+        }
+        synchronized (this) {
+            if (pendingCount > 0) {
+                executor.execute(deliveryTask);
+            } else {
+                scheduled = false;
+            }
+        }
+    }
+}
@@ -1,74 +1,240 @@
 package rybchynskyi.checkersgui.core;
 
 /**
- * Represents the game board, the cells, and the pieces on the board.
+ * Represents the game board, the cells, and the pieces on the board. The pieces are stored as bitboards: every square
+ * of the 8x8 board is one bit of a long, numbered row * 8 + col, so that whole-board queries become a handful of
+ * shift and AND operations. One mask is kept for each player along with a mask of all the occupied squares.
  * @author Danylo Rybchynskyi
- * @version 2024-04-26
+ * @version 2026-10-17
  */
 public class Board {
 
-    private static final Cell BLACK_EMPTY_CELL = new EmptyCell(Cell.Color.BLACK);
-    private static final Cell WHITE_EMPTY_CELL = new EmptyCell(Cell.Color.WHITE);
-    private static final Cell CELL_WITH_WHITE_PIECE = new OccupiedCell(Player.WHITE);
-    private static final Cell CELL_WITH_BLACK_PIECE = new OccupiedCell(Player.BLACK);
-    private final Cell[][] board;
+    private static final int ROWS = 8;
+    private static final int COLS = 8;
+    private static final String EMPTY_SYMBOL = "_";
 
-    private boolean isBlackCell(int row, int col) {
+    /**
+     * Mask of every dark square of the board. These are the only squares on which pieces are played.
+     */
+    public static final long DARK_SQUARES = darkSquares();
+
+    private long whitePieces;
+    private long blackPieces;
+    private long occupied;
+    private long hash;
+    private PieceSquareTable pieceSquareTable;
+    private int whiteScore;
+    private int blackScore;
+    private long reportedWhitePieces;
+    private long reportedBlackPieces;
+
+    private static boolean isBlackCell(int row, int col) {
         return (row + col) % 2 == 1;
     }
 
-    /**
-     * Sets the white pieces at the top of the board
-     */
-    private void setWhitePieces() {
-        for (int i = 0; i < 3; ++i) {
-            for (int j = 0; j < 8; ++j) {
-                if (isBlackCell(i, j)) {
-                    board[i][j] = CELL_WITH_WHITE_PIECE;
-                }
+    private static long darkSquares() {
+        long mask = 0;
+        for (int i = 0; i < ROWS; ++i) {
+            for (int j = 0; j < COLS; ++j) {
+                if (isBlackCell(i, j))
+                    mask |= bit(i, j);
             }
         }
+        return mask;
     }
 
     /**
-     * Sets the black pieces at the bottom of the board
+     * Returns the mask of the dark squares within the given rows
+     * @param fromRow first row, inclusive
+     * @param toRow last row, inclusive
+     * @return mask of the dark squares
      */
-    private void setBlackPieces() {
-        for (int i = 7; i > 4; --i) {
-            for (int j = 7; j >= 0; --j) {
-                if (isBlackCell(i, j)) {
-                    board[i][j] = CELL_WITH_BLACK_PIECE;
-                }
-            }
+    private static long darkSquaresInRows(int fromRow, int toRow) {
+        long mask = 0;
+        for (int i = fromRow; i <= toRow; ++i) {
+            mask |= 0xFFL << (i * COLS);
         }
+        return mask & DARK_SQUARES;
     }
 
     /**
-     * Sets unoccupied cells as empty cells. Warning: an empty cell is a cell with no pieces set. Always run after first
-     * setting the player pieces.
+     * Converts a board coordinate to its square index
+     * @param row the board row
+     * @param col the board column
+     * @return square index from 0 to 63
      */
-    private void setEmptyCells() {
-        for (int i = 0; i < 8; ++i) {
-            for (int j = 0; j < 8; ++j) {
-                if (board[i][j] != null) continue;
-                
-                if (!isBlackCell(i, j)) {
-                    board[i][j] = BLACK_EMPTY_CELL;
-                } else {
-                    board[i][j] = WHITE_EMPTY_CELL;
-                }
-            }
-        }
+    public static int toSquare(int row, int col) {
+        return row * COLS + col;
+    }
+
+    /**
+     * Returns the row of a square index
+     * @param square square index from 0 to 63
+     * @return the board row
+     */
+    public static int squareRow(int square) {
+        return square / COLS;
+    }
+
+    /**
+     * Returns the column of a square index
+     * @param square square index from 0 to 63
+     * @return the board column
+     */
+    public static int squareCol(int square) {
+        return square % COLS;
+    }
+
+    /**
+     * Converts a dark square index to its number in draughts notation. As in standard PDN, the 32 dark squares are
+     * numbered 1 to 32 row by row from black's side, the side that moves first: square 1 is at the bottom right of the
+     * board as printed by toString, so black starts on squares 1 to 12 and white on 21 to 32.
+     * @param square square index of a dark square
+     * @return square number from 1 to 32
+     */
+    public static int toSquareNumber(int square) {
+        return ROWS * COLS / 2 - squareRow(square) * (COLS / 2) - squareCol(square) / 2;
+    }
+
+    /**
+     * Converts a square number in draughts notation to its square index
+     * @param number square number from 1 to 32
+     * @return square index of the dark square
+     * @throws IllegalArgumentException if the number is not between 1 and 32
+     */
+    public static int fromSquareNumber(int number) {
+        if (number < 1 || number > ROWS * COLS / 2) throw new IllegalArgumentException();
+        int fromTop = ROWS * COLS / 2 - number;
+        int row = fromTop / (COLS / 2);
+        int col = fromTop % (COLS / 2) * 2 + (row % 2 == 0 ? 1 : 0);
+        return toSquare(row, col);
+    }
+
+    /**
+     * Returns the single-bit mask of a board coordinate
+     * @param row the board row
+     * @param col the board column
+     * @return bit mask of the square
+     */
+    public static long bit(int row, int col) {
+        return 1L << toSquare(row, col);
     }
 
     /**
-     * Constructs a 8x8 checkerboard and sets the pieces
+     * Constructs a 8x8 checkerboard and sets the pieces. White pieces are set at the top of the board and black pieces
+     * at the bottom.
      */
     Board() {
-        board = new Cell[8][8];
-        setWhitePieces();
-        setBlackPieces();
-        setEmptyCells();
+        whitePieces = darkSquaresInRows(0, 2);
+        blackPieces = darkSquaresInRows(5, 7);
+        occupied = whitePieces | blackPieces;
+        hash = hashPieces(whitePieces, Player.WHITE) ^ hashPieces(blackPieces, Player.BLACK);
+    }
+
+    /**
+     * Calculates the combined Zobrist key of a set of pieces
+     * @param pieces mask of the pieces
+     * @param player the owner of the pieces
+     * @return XOR of the piece keys
+     */
+    private static long hashPieces(long pieces, Player player) {
+        long key = 0;
+        for (long rest = pieces; rest != 0; rest &= rest - 1) {
+            key ^= Zobrist.piece(player, Long.numberOfTrailingZeros(rest));
+        }
+        return key;
+    }
+
+    /**
+     * Constructs a board with the given pieces
+     * @param whitePieces mask of the white pieces
+     * @param blackPieces mask of the black pieces
+     * @throws IllegalArgumentException if the masks overlap or use light squares
+     */
+    Board(long whitePieces, long blackPieces) {
+        if ((whitePieces & blackPieces) != 0 || ((whitePieces | blackPieces) & ~DARK_SQUARES) != 0)
+            throw new IllegalArgumentException();
+        this.whitePieces = whitePieces;
+        this.blackPieces = blackPieces;
+        occupied = whitePieces | blackPieces;
+        hash = hashPieces(whitePieces, Player.WHITE) ^ hashPieces(blackPieces, Player.BLACK);
+    }
+
+    /**
+     * Replaces every piece on the board without validating the masks. Used to walk through many positions without
+     * allocating a board for each.
+     * @param whitePieces mask of the white pieces
+     * @param blackPieces mask of the black pieces
+     */
+    void setPieces(long whitePieces, long blackPieces) {
+        this.whitePieces = whitePieces;
+        this.blackPieces = blackPieces;
+        occupied = whitePieces | blackPieces;
+        hash = hashPieces(whitePieces, Player.WHITE) ^ hashPieces(blackPieces, Player.BLACK);
+        recomputeScores();
+    }
+
+    /**
+     * Constructs a copy of another board
+     * @param other the board to copy
+     */
+    Board(Board other) {
+        whitePieces = other.whitePieces;
+        blackPieces = other.blackPieces;
+        occupied = other.occupied;
+        hash = other.hash;
+        pieceSquareTable = other.pieceSquareTable;
+        whiteScore = other.whiteScore;
+        blackScore = other.blackScore;
+        reportedWhitePieces = other.reportedWhitePieces;
+        reportedBlackPieces = other.reportedBlackPieces;
+    }
+
+    /**
+     * Returns the squares whose content differs from the last call, and remembers the current pieces for the next one.
+     * The difference is only worked out here, so the move paths pay nothing for it.
+     * @return mask of the changed squares; on the first call, of every occupied square
+     */
+    long takeChangedSquares() {
+        long changed = (whitePieces ^ reportedWhitePieces) | (blackPieces ^ reportedBlackPieces);
+        reportedWhitePieces = whitePieces;
+        reportedBlackPieces = blackPieces;
+        return changed;
+    }
+
+    /**
+     * Sums the piece-square values of both players from scratch
+     */
+    private void recomputeScores() {
+        if (pieceSquareTable == null) return;
+        whiteScore = pieceSquareTable.sum(whitePieces, Player.WHITE);
+        blackScore = pieceSquareTable.sum(blackPieces, Player.BLACK);
+    }
+
+    /**
+     * Attaches a piece-square table, whose sums are then kept up to date on every change of the board
+     * @param table the table, or null to stop keeping sums
+     */
+    void setPieceSquareTable(PieceSquareTable table) {
+        pieceSquareTable = table;
+        recomputeScores();
+    }
+
+    /**
+     * Returns the attached piece-square table
+     * @return the table, or null if none is attached
+     */
+    PieceSquareTable getPieceSquareTable() {
+        return pieceSquareTable;
+    }
+
+    /**
+     * Returns the running sum of the piece-square values of a player's pieces
+     * @param player the player
+     * @return the sum, or 0 if no table is attached
+     */
+    int getPieceSquareScore(Player player) {
+        return player == Player.WHITE ? whiteScore : blackScore;
     }
 
     /**
@@ -78,8 +244,8 @@ public class Board {
      * @return true - coordinate is on the board; false - otherwise
      */
     public boolean isValidCoordinate(int row, int col) {
-        return (row < board.length && row >= 0) &&
-                (col < board[0].length && col >= 0);
+        return (row < ROWS && row >= 0) &&
+                (col < COLS && col >= 0);
     }
 
     /**
@@ -88,9 +254,37 @@ public class Board {
      * @param row the board row
      * @param col the board column
      * @return Is cell occupied by given player
+     * @throws ArrayIndexOutOfBoundsException if the coordinate is outside the board
      */
     public boolean isOccupiedByPlayer(int row, int col, Player player) {
-        return board[row][col].isOccupiedBy(player);
+        if (!isValidCoordinate(row, col)) throw new ArrayIndexOutOfBoundsException();
+        return (getPieces(player) & bit(row, col)) != 0;
+    }
+
+    /**
+     * Returns the mask of the squares occupied by a given player
+     * @param player the player whose pieces to return
+     * @return bit mask of the player's pieces
+     */
+    public long getPieces(Player player) {
+        return player == Player.WHITE ? whitePieces : blackPieces;
+    }
+
+    /**
+     * Returns the mask of all the occupied squares
+     * @return bit mask of every piece on the board
+     */
+    public long getOccupied() {
+        return occupied;
+    }
+
+    /**
+     * Returns the Zobrist key of the pieces on the board. The key is updated incrementally on every change, so equal
+     * piece placements always have equal keys.
+     * @return 64-bit position key, not including the player to move
+     */
+    public long getHash() {
+        return hash;
     }
 
     /**
@@ -101,8 +295,58 @@ public class Board {
      */
     public void removePiece(int row, int col) {
         if (!isValidCoordinate(row, col)) throw new ArrayIndexOutOfBoundsException();
-        board[row][col] =
-                (isBlackCell(row, col)) ? BLACK_EMPTY_CELL : WHITE_EMPTY_CELL;
+        removePieceAt(toSquare(row, col));
+    }
+
+    /**
+     * Removes any piece on a square without validating it. Used on the move generation and search paths.
+     * @param square square index from 0 to 63
+     */
+    void removePieceAt(int square) {
+        long mask = 1L << square;
+        if ((whitePieces & mask) != 0) {
+            hash ^= Zobrist.piece(Player.WHITE, square);
+            if (pieceSquareTable != null) whiteScore -= pieceSquareTable.values[Player.WHITE.ordinal()][square];
+        } else if ((blackPieces & mask) != 0) {
+            hash ^= Zobrist.piece(Player.BLACK, square);
+            if (pieceSquareTable != null) blackScore -= pieceSquareTable.values[Player.BLACK.ordinal()][square];
+        }
+        long clear = ~mask;
+        whitePieces &= clear;
+        blackPieces &= clear;
+        occupied &= clear;
+    }
+
+    /**
+     * Places a piece of the given player on an empty square
+     * @param row the board row
+     * @param col the board column
+     * @param player the owner of the new piece
+     * @throws ArrayIndexOutOfBoundsException if the coordinate is outside the board
+     * @throws IllegalArgumentException if the square is already occupied
+     */
+    public void placePiece(int row, int col, Player player) {
+        if (!isEmpty(row, col)) throw new IllegalArgumentException();
+        placePieceAt(toSquare(row, col), player);
+    }
+
+    /**
+     * Places a piece on a square without validating it. Used on the move generation and search paths.
+     * @param square square index of an empty square
+     * @param player the owner of the new piece
+     */
+    void placePieceAt(int square, Player player) {
+        long mask = 1L << square;
+        int value = pieceSquareTable == null ? 0 : pieceSquareTable.values[player.ordinal()][square];
+        if (player == Player.WHITE) {
+            whitePieces |= mask;
+            whiteScore += value;
+        } else {
+            blackPieces |= mask;
+            blackScore += value;
+        }
+        occupied |= mask;
+        hash ^= Zobrist.piece(player, square);
     }
 
     /**
@@ -118,9 +362,37 @@ public class Board {
         if (!isValidCoordinate(fromRow, fromCol) || !isValidCoordinate(toRow, toCol))
             throw new ArrayIndexOutOfBoundsException();
         if (!isEmpty(toRow, toCol)) throw new IllegalArgumentException();
+        if (isEmpty(fromRow, fromCol)) throw new IllegalArgumentException();
+        movePieceAt(toSquare(fromRow, fromCol), toSquare(toRow, toCol));
+    }
 
-        board[toRow][toCol] = board[fromRow][fromCol];
-        removePiece(fromRow, fromCol);
+    /**
+     * Moves a piece between squares without validating them. Used on the move generation and search paths.
+     * @param from square index of an occupied square
+     * @param to square index of an empty square
+     */
+    void movePieceAt(int from, int to) {
+        long fromMask = 1L << from;
+        long change = fromMask | 1L << to;
+        Player player;
+        if ((whitePieces & fromMask) != 0) {
+            whitePieces ^= change;
+            player = Player.WHITE;
+        } else {
+            blackPieces ^= change;
+            player = Player.BLACK;
+        }
+        occupied ^= change;
+        hash ^= Zobrist.piece(player, from) ^ Zobrist.piece(player, to);
+        if (pieceSquareTable != null) {
+            int[] values = pieceSquareTable.values[player.ordinal()];
+            int delta = values[to] - values[from];
+            if (player == Player.WHITE) {
+                whiteScore += delta;
+            } else {
+                blackScore += delta;
+            }
+        }
     }
 
     /**
@@ -132,7 +404,7 @@ public class Board {
      */
     public boolean isEmpty(int row, int col) {
         if (!isValidCoordinate(row, col)) throw new ArrayIndexOutOfBoundsException();
-        return board[row][col].isEmpty();
+        return (occupied & bit(row, col)) == 0;
     }
 
     /**
@@ -140,7 +412,7 @@ public class Board {
      * @return int rows
      */
     public int getRows() {
-        return board.length;
+        return ROWS;
     }
 
     /**
@@ -148,7 +420,7 @@ public class Board {
      * @return int columns
      */
     public int getCols() {
-        return board[0].length;
+        return COLS;
     }
 
     /**
@@ -168,10 +440,10 @@ public class Board {
      */
     public String toString() {
         StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < board.length; ++i) {
+        for (int i = 0; i < ROWS; ++i) {
             builder.append(8 - i).append(" |");
-            for (int j = 0; j < board[0].length; ++j) {
-                builder.append(" ").append(board[i][j]).append(" |");
+            for (int j = 0; j < COLS; ++j) {
+                builder.append(" ").append(getSymbol(i, j)).append(" |");
             }
             builder.append("\n");
         }
@@ -185,116 +457,13 @@ public class Board {
      * @param row the board row
      * @param col the board column
      * @return cell symbol
+     * @throws ArrayIndexOutOfBoundsException for invalid coordinates
      */
     public String getSymbol(int row, int col) {
-        return board[row][col].toString();
-    }
-
-    /**
-     * The abstract representation of a board cell.
-     */
-    public interface Cell {
-        /**
-         * Checks whether a given board cell is empty or not
-         * @return true - the cell has no pieces on it; false - otherwise
-         */
-        boolean isEmpty();
-
-        /**
-         * Checks whether a given board cell is taken by a piece of a given player
-         * @param player the player whose piece to check for
-         * @return true - the player owns a piece on this cell; false - otherwise
-         */
-        boolean isOccupiedBy(Player player);
-
-        /**
-         * Represents the cell colour. The programmer could use this class to change symbol representations of white
-         * and black cells.
-         */
-        enum Color {
-            /**
-             * Black cell with an ASCII representation of it
-             */
-            BLACK("_"),
-            /**
-             * White cell with an ASCII representation of it
-             */
-            WHITE("_");
-
-            private final String symbol;
-
-            Color(String symbol) {
-                this.symbol = symbol;
-            }
-
-            /**
-             * Returns the ASCII symbol representation of the cell's color
-             * @return ASCII symbol
-             */
-            @Override
-            public String toString() {
-                return symbol;
-            }
-        }
-    }
-
-    /**
-     * The abstract representation of an empty cell on a board. It has a colour of either black or white.
-     * @param color the colour of the cell
-     */
-    private record EmptyCell(Color color) implements Cell {
-        /**
-         * The empty cell is always empty
-         * @return true
-         */
-        @Override
-        public boolean isEmpty() {
-            return true;
-        }
-
-        /**
-         * The empty cell is never occupied by another player
-         * @param player the player to check for
-         * @return false - this cell is always empty
-         */
-        @Override
-        public boolean isOccupiedBy(Player player) {
-            return false;
-        }
-
-        @Override
-        public String toString() {
-            return color.toString();
-        }
-    }
-
-    /**
-     * The abstract representation of an occupied cell. It holds a player.
-     * @param player the player who owns the piece in this cell
-     */
-    private record OccupiedCell(Player player) implements Cell {
-        /**
-         * The occupied cell is never empty
-         * @return false
-         */
-        @Override
-        public boolean isEmpty() {
-            return false;
-        }
-
-        /**
-         * The occupied cell can only be occupied by one player at a time
-         * @param player the player to check for
-         * @return true - it is occupied by the given player; false - otherwise
-         */
-        @Override
-        public boolean isOccupiedBy(Player player) {
-            return this.player == player;
-        }
-
-        @Override
-        public String toString() {
-            return player.toString();
-        }
+        if (!isValidCoordinate(row, col)) throw new ArrayIndexOutOfBoundsException();
+        long square = bit(row, col);
+        if ((whitePieces & square) != 0) return Player.WHITE.toString();
+        if ((blackPieces & square) != 0) return Player.BLACK.toString();
+        return EMPTY_SYMBOL;
     }
-}
\ No newline at end of file
+}
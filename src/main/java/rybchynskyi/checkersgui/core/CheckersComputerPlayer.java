@@ -1,39 +1,476 @@
 package rybchynskyi.checkersgui.core;
 
-import java.util.concurrent.ThreadLocalRandom;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 /**
- * The abstract representation of a checkers computer player
+ * The abstract representation of a checkers computer player. It picks its moves with an alpha-beta search over a copy
+ * of the game's position, so the game itself is never modified while the computer thinks. The search deepens one ply
+ * at a time up to the configured depth and, if a move time is set, stops when the time runs out. Positions found in an
+ * opening book or an endgame tablebase are played without searching. A move can be calculated for a snapshot of the
+ * game on another thread, and a calculation running on another thread can be cancelled.
+ * With pondering on, the player keeps thinking while the opponent chooses a move: on a background thread it predicts
+ * the opponent's reply, from the principal variation of its last search or else from a shallow search, and searches
+ * the position after it. If the opponent plays the predicted reply, the next calculation carries on with that search
+ * instead of starting over; otherwise the pondering search is stopped and its result thrown away.
  * @author Danylo Rybchynskyi
- * @version 2024-04-26
+ * @version 2026-10-17
  */
 public class CheckersComputerPlayer {
+    private static final int DEFAULT_DEPTH = 6;
+    private static final int DEFAULT_TABLE_MB = 16;
+    private static final int PREDICTION_DEPTH = 4;
+
     private CheckersLogic logic;
+    private final int depth;
+    private final Evaluator evaluator;
+    private final TranspositionTable table;
+    private long moveTimeMillis;
+    private ParallelSearch parallelSearch;
+    private Tablebase tablebase;
+    private OpeningBook openingBook;
+    private long nodesSearched;
+    private long nodesPerSecond;
+    private List<SearchIteration> lastIterations = List.of();
+    private volatile IterativeDeepening running;
+    private volatile boolean cancelled;
+    private volatile ExecutorService ponderThread;
+    private volatile Pondering pondering;
+    private CheckersLogic lastPosition;
+    private int ponderHits;
+    private int ponderMisses;
+
+    /**
+     * Constructs the computerized checker player with a given search depth, evaluation and transposition table
+     * @param checkersLogic game's logic class
+     * @param depth the number of plies to search, from 1 to AlphaBetaSearch.MAX_DEPTH
+     * @param evaluator the static evaluation to search with
+     * @param table the transposition table to search with, or null to search without one
+     * @throws IllegalArgumentException if the depth is less than 1
+     */
+    public CheckersComputerPlayer(CheckersLogic checkersLogic, int depth, Evaluator evaluator,
+                                  TranspositionTable table) {
+        if (depth < 1 || depth > AlphaBetaSearch.MAX_DEPTH) throw new IllegalArgumentException();
+        logic = checkersLogic;
+        this.depth = depth;
+        this.evaluator = evaluator;
+        this.table = table;
+    }
 
     /**
      * Constructs the computerized checker player with access to the game's logic class for calculating moves
      * @param checkersLogic game's logic class
      */
     public CheckersComputerPlayer(CheckersLogic checkersLogic) {
-        logic = checkersLogic;
+        this(checkersLogic, DEFAULT_DEPTH, new StandardEvaluator(), new TranspositionTable(DEFAULT_TABLE_MB));
+    }
+
+    /**
+     * Sets the wall-clock budget of each move. With a budget, the configured depth is only the deepest iteration the
+     * search may reach.
+     * @param moveTimeMillis budget in milliseconds, or 0 to always search to the full depth
+     * @throws IllegalArgumentException if the budget is negative
+     */
+    public void setMoveTime(long moveTimeMillis) {
+        if (moveTimeMillis < 0) throw new IllegalArgumentException();
+        this.moveTimeMillis = moveTimeMillis;
     }
 
     /**
-     * Returns a random index from 0 to an exclusive upper bound
-     * @param upperBound exclusive maximum value
-     * @return random index
+     * Sets the number of threads searching each move. With more than one thread the player runs a parallel search
+     * over its transposition table, and its moves are no longer deterministic.
+     * @param threads number of search threads
+     * @throws IllegalArgumentException if threads is less than 1, or more than 1 without a transposition table
      */
-    private int randomIndex(int upperBound) {
-        return ThreadLocalRandom.current().nextInt(upperBound);
+    public void setThreads(int threads) {
+        if (threads < 1 || (threads > 1 && table == null)) throw new IllegalArgumentException();
+        if (parallelSearch != null) parallelSearch.shutdown();
+        parallelSearch = threads > 1 ? new ParallelSearch(threads, evaluator, table) : null;
+        if (parallelSearch != null) parallelSearch.setTablebase(tablebase);
+    }
+
+    /**
+     * Sets an endgame tablebase. Positions it covers are played from the tablebase without a search, and the search
+     * scores the positions it covers exactly.
+     * @param tablebase the tablebase, or null to play without one
+     */
+    public void setTablebase(Tablebase tablebase) {
+        this.tablebase = tablebase;
+        if (parallelSearch != null) parallelSearch.setTablebase(tablebase);
+    }
+
+    /**
+     * Sets an opening book. A position found in the book is played from the book without a search.
+     * @param openingBook the book, or null to play without one
+     */
+    public void setOpeningBook(OpeningBook openingBook) {
+        this.openingBook = openingBook;
+    }
+
+    /**
+     * Picks the move of a position the tablebase covers: the quickest win if there is one, otherwise the slowest loss
+     * @param game the position to pick a move in
+     * @return the first hop of the chosen turn, or null if the tablebase does not cover the position
+     */
+    private Move tablebaseMove(CheckersLogic game) {
+        if (tablebase == null || tablebase.probe(game) == Tablebase.UNKNOWN) return null;
+        CheckersLogic position = new CheckersLogic(game);
+        CompoundMoveList moves = new CompoundMoveList();
+        position.getCompoundMoves(moves);
+        int best = -1;
+        int bestRank = Integer.MIN_VALUE;
+        for (int i = 0; i < moves.size(); ++i) {
+            position.makeCompoundMove(moves, i);
+            int value = tablebase.probe(position);
+            position.unmakeCompoundMove();
+            // The opponent moves next, so a loss for them is a win for us
+            int distance = Tablebase.distance(value);
+            int rank = Tablebase.isWin(value) ? distance : Integer.MAX_VALUE - distance;
+            if (rank > bestRank) {
+                best = i;
+                bestRank = rank;
+            }
+        }
+        return PackedMove.toMove(moves.getHop(best, 0));
     }
 
     /**
      * Calculates the next move to be made by the computer player
-     * @return the Move
+     * @return the Move, or null if the player has been cancelled
+     * @throws IllegalStateException if the game is over
      */
     public Move calculateMove() {
-        int numMoves = logic.getMoveCount();
-        int moveIndex = randomIndex(numMoves);
-        return logic.getMove(moveIndex);
+        return calculateMove(logic);
+    }
+
+    /**
+     * Calculates the move of a given position, which may be a snapshot of the game taken for a calculation on another
+     * thread. The position is never modified.
+     * @param position the position to move in
+     * @return the Move, or null if the player has been cancelled
+     * @throws IllegalStateException if the game is over
+     */
+    public Move calculateMove(CheckersLogic position) {
+        if (position.isGameOver()) throw new IllegalStateException();
+        Move ponderedMove = finishPondering(position);
+        if (cancelled) return null;
+        if (ponderThread != null) lastPosition = new CheckersLogic(position);
+        if (ponderedMove != null) return ponderedMove;
+        Move knownMove = openingBook != null ? openingBook.probe(position) : null;
+        if (knownMove == null) knownMove = tablebaseMove(position);
+        if (knownMove != null) {
+            nodesSearched = 0;
+            nodesPerSecond = 0;
+            lastIterations = List.of();
+            return knownMove;
+        }
+        if (parallelSearch != null) {
+            Move move = parallelSearch.search(position, moveTimeMillis, depth);
+            nodesSearched = parallelSearch.getNodes();
+            nodesPerSecond = parallelSearch.getNodesPerSecond();
+            lastIterations = parallelSearch.getIterations();
+            return move;
+        }
+        IterativeDeepening search = new IterativeDeepening(new CheckersLogic(position), evaluator, table);
+        search.setTablebase(tablebase);
+        running = search;
+        // A cancel that saw no running search yet is picked up here
+        if (cancelled) search.stop();
+        Move move = search.search(moveTimeMillis, depth);
+        running = null;
+        nodesSearched = search.getNodes();
+        nodesPerSecond = search.getNodesPerSecond();
+        lastIterations = search.getIterations();
+        return move;
+    }
+
+    /**
+     * Cancels the player for good: a calculation running on another thread returns as soon as possible, and every
+     * later calculation returns null at once. A cancelled calculation returns the move of its last completed
+     * iteration, or null if none has completed. Pondering stops as well, and its thread is released.
+     */
+    public void cancel() {
+        cancelled = true;
+        IterativeDeepening search = running;
+        if (search != null) search.stop();
+        if (parallelSearch != null) parallelSearch.cancel();
+        Pondering task = pondering;
+        if (task != null) task.stop();
+        ExecutorService pool = ponderThread;
+        if (pool != null) pool.shutdown();
+    }
+
+    /**
+     * Turns pondering on or off. Pondering always runs on one background thread, whatever the number of search
+     * threads.
+     * @param pondering true - think during the opponent's turn; false - stay idle
+     */
+    public void setPondering(boolean pondering) {
+        if (pondering && ponderThread == null) {
+            ponderThread = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "checkers-ponder");
+                thread.setDaemon(true);
+                return thread;
+            });
+        } else if (!pondering && ponderThread != null) {
+            stopPondering();
+            ponderThread.shutdownNow();
+            ponderThread = null;
+        }
+    }
+
+    /**
+     * Starts pondering in the opponent's turn. Call it once the player's own move has been played and the opponent is
+     * to move. The prediction and the search both run on the pondering thread, so the call returns at once. Nothing
+     * is searched if pondering is off, the game is over, or the predicted position is one the opening book or the
+     * tablebase already knows.
+     * @param game the game, with the opponent to move; it is copied and never modified
+     */
+    public void ponder(CheckersLogic game) {
+        if (ponderThread == null || cancelled || game.isGameOver()) return;
+        Pondering previous = pondering;
+        if (previous != null) previous.stop();
+        Pondering task = new Pondering(new CheckersLogic(game), lastPosition, lastIterations);
+        task.result = ponderThread.submit(task);
+        pondering = task;
+    }
+
+    /**
+     * Predicts the opponent's whole turn
+     * @param task the pondering task to run the prediction searches under
+     * @return a copy of the game with the predicted turn played, or null if the task was stopped
+     */
+    private CheckersLogic predictReply(Pondering task) {
+        Player opponent = task.game.getCurrentPlayer();
+        CheckersLogic position = followPrincipalVariation(task);
+        if (position == null) position = new CheckersLogic(task.game);
+        // The principal variation may end before the opponent's turn does
+        while (!position.isGameOver() && position.getCurrentPlayer() == opponent) {
+            IterativeDeepening search = new IterativeDeepening(new CheckersLogic(position), evaluator, null);
+            Move move = task.track(search).search(0, Math.min(PREDICTION_DEPTH, depth));
+            if (move == null || task.stopped) return null;
+            position.move(move);
+        }
+        return position;
+    }
+
+    /**
+     * Follows the principal variation of the last search through the game and on through the opponent's hops
+     * @param task the pondering task, with the game and the last search
+     * @return a copy of the game with the opponent's hops of the principal variation played, or null if the principal
+     *         variation does not lead to the game
+     */
+    private static CheckersLogic followPrincipalVariation(Pondering task) {
+        if (task.lastPosition == null || task.lastIterations.isEmpty()) return null;
+        List<Move> variation = task.lastIterations.get(task.lastIterations.size() - 1).principalVariation();
+        Player opponent = task.game.getCurrentPlayer();
+        CheckersLogic position = new CheckersLogic(task.lastPosition);
+        int i = 0;
+        while (position.getHash() != task.game.getHash()) {
+            if (i == variation.size() || position.getCurrentPlayer() == opponent
+                    || !position.isMoveValid(variation.get(i)))
+                return null;
+            position.move(variation.get(i++));
+        }
+        while (i < variation.size() && position.getCurrentPlayer() == opponent
+                && position.isMoveValid(variation.get(i))) {
+            position.move(variation.get(i++));
+        }
+        return position;
+    }
+
+    /**
+     * Ends pondering when the player is asked to move. On a correct prediction the pondering search goes on for up
+     * to the move time, or to its full depth without one, and its move is returned; otherwise it is stopped. A
+     * prediction still being made is waited for.
+     * @param position the position the player has to move in
+     * @return the move of the pondering search, or null if there was none or it pondered another position
+     */
+    private Move finishPondering(CheckersLogic position) {
+        Pondering task = pondering;
+        if (task == null) return null;
+        pondering = null;
+        try {
+            task.predicted.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.stop();
+            return null;
+        }
+        if (task.searched == null) return null;
+        if (position.getHash() != task.hash) {
+            ponderMisses++;
+            task.stop();
+            waitForPondering(task, 0);
+            return null;
+        }
+        ponderHits++;
+        Move move = waitForPondering(task, moveTimeMillis);
+        if (move != null) {
+            nodesSearched = task.searched.getNodes();
+            nodesPerSecond = task.searched.getNodesPerSecond();
+            lastIterations = task.searched.getIterations();
+        }
+        return move;
+    }
+
+    /**
+     * Stops the pondering task, if any, and waits for it to unwind
+     */
+    private void stopPondering() {
+        Pondering task = pondering;
+        if (task == null) return;
+        pondering = null;
+        task.stop();
+        waitForPondering(task, 0);
+    }
+
+    /**
+     * Waits for a pondering task, stopping it once the time runs out
+     * @param task the pondering task
+     * @param timeoutMillis how long to let it run, or 0 to wait until it finishes
+     * @return the move of its last completed iteration, or null if there is none or the wait was interrupted
+     */
+    private static Move waitForPondering(Pondering task, long timeoutMillis) {
+        try {
+            return timeoutMillis == 0 ? task.result.get() : task.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.stop();
+            return waitForPondering(task, 0);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            task.stop();
+            return null;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the number of times the opponent played the reply the player pondered on
+     * @return correct predictions
+     */
+    public int getPonderHits() {
+        return ponderHits;
+    }
+
+    /**
+     * Returns the number of times the opponent played another reply than the one the player pondered on
+     * @return wrong predictions
+     */
+    public int getPonderMisses() {
+        return ponderMisses;
+    }
+
+    /**
+     * Returns the completed iterations of the last move calculation, with their depth, score, principal variation and
+     * elapsed time
+     * @return list of iteration results, shallowest first
+     */
+    public List<SearchIteration> getLastIterations() {
+        return lastIterations;
+    }
+
+    /**
+     * Returns the number of positions visited while calculating the last move
+     * @return nodes searched
+     */
+    public long getNodesSearched() {
+        return nodesSearched;
+    }
+
+    /**
+     * Returns the search speed while calculating the last move
+     * @return nodes searched per second
+     */
+    public long getNodesPerSecond() {
+        return nodesPerSecond;
+    }
+
+    /**
+     * One turn of pondering: the prediction of the opponent's reply and the search of the position after it, run
+     * together on the pondering thread. Stopping it stops whichever search it is running and every search it starts
+     * later.
+     */
+    private final class Pondering implements Callable<Move> {
+        private final CheckersLogic game;
+        private final CheckersLogic lastPosition;
+        private final List<SearchIteration> lastIterations;
+        private final CountDownLatch predicted = new CountDownLatch(1);
+        private volatile IterativeDeepening current;
+        private volatile boolean stopped;
+        private Future<Move> result;
+        private IterativeDeepening searched;
+        private long hash;
+
+        /**
+         * Constructs the task
+         * @param game a copy of the game, with the opponent to move
+         * @param lastPosition the position of the player's last calculation, or null
+         * @param lastIterations the iterations of the player's last calculation
+         */
+        private Pondering(CheckersLogic game, CheckersLogic lastPosition, List<SearchIteration> lastIterations) {
+            this.game = game;
+            this.lastPosition = lastPosition;
+            this.lastIterations = lastIterations;
+        }
+
+        /**
+         * Makes a search the one stopped by stop, stopping it at once if the task has already been stopped
+         * @param search the search about to run
+         * @return the search
+         */
+        private IterativeDeepening track(IterativeDeepening search) {
+            current = search;
+            if (stopped) search.stop();
+            return search;
+        }
+
+        /**
+         * Predicts the reply and sets up the pondering search. The searched position and its key are published to
+         * finishPondering by the predicted latch.
+         * @return the pondering search, or null if there is nothing to ponder on
+         */
+        private IterativeDeepening prepare() {
+            try {
+                CheckersLogic position = predictReply(this);
+                if (position == null || position.isGameOver()) return null;
+                if (openingBook != null && openingBook.probe(position) != null) return null;
+                if (tablebase != null && tablebase.probe(position) != Tablebase.UNKNOWN) return null;
+                IterativeDeepening search = new IterativeDeepening(position, evaluator, table);
+                search.setTablebase(tablebase);
+                hash = position.getHash();
+                searched = track(search);
+                return searched;
+            } finally {
+                predicted.countDown();
+            }
+        }
+
+        /**
+         * Runs the prediction and then the pondering search
+         * @return the move of the pondering search, or null if there was none
+         */
+        @Override
+        public Move call() {
+            IterativeDeepening search = prepare();
+            return search == null ? null : search.search(0, depth);
+        }
+
+        /**
+         * Stops the task, from any thread
+         */
+        private void stop() {
+            stopped = true;
+            IterativeDeepening search = current;
+            if (search != null) search.stop();
+        }
     }
 }
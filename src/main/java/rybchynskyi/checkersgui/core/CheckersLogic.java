@@ -1,330 +1,557 @@
 package rybchynskyi.checkersgui.core;
 
-import java.util.List;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.regex.Pattern;
 
 /**
- * The game class. It is responsible for the logic and state of the checkers game.
+ * The game class. It is responsible for the logic and state of the checkers game. Its events can be observed with
+ * a GameListener added through addListener.
  * @author Danylo Rybchynskyi
- * @version 2024-04-27
+ * @version 2026-10-17
  */
 public class CheckersLogic {
+    private static final int UNDO_MOVE_MASK = (1 << PackedMove.BITS) - 1;
+    private static final int UNDO_WHITE_TO_MOVE = 1 << PackedMove.BITS;
+    private static final int UNDO_CONTINUATION = UNDO_WHITE_TO_MOVE << 1;
+    private static final int UNDO_COMPOUND_START = UNDO_CONTINUATION << 1;
+    private static final GameListener[] NO_LISTENERS = new GameListener[0];
+    private static final Pattern VALID_FEN = Pattern.compile("([WB]):([WB])(\\d+(?:,\\d+)*)?:([WB])(\\d+(?:,\\d+)*)?");
+
     private final Board gameBoard;
     private Player currentPlayer;
-    private List<Coordinate> jumpPieces;
-    private List<Coordinate> movePieces;
-    private List<Move> moves;
+    private boolean jumpContinuation;
+    private int[] undoStack;
+    private int undoSize;
+    private final MoveList moves;
+    private final long[] moveTargets;
+    private boolean movesCalculated;
+    private MoveList[] chainMoves = new MoveList[0];
+    private int[] chainPath = new int[0];
+    private GameListener[] listeners = NO_LISTENERS;
+    private GameEvent event;
 
     /**
      * Calculates the next player in turn
      * @return next player (also the opponent)
      */
     private Player nextPlayer() {
-        return (currentPlayer == Player.BLACK) ? Player.WHITE : Player.BLACK;
+        return currentPlayer.opponent();
     }
 
     /**
-     * Checks whether a given coordinate is occupied by the current player
-     * @param row row to check
-     * @param col column to check
-     * @return true - occupied by current player; false - otherwise
+     * Checks whether a piece of the current player can jump and capture
+     * @param square the square of the piece
+     * @return true - the piece has an available jump capture move; false - otherwise
      */
-    private boolean isOccupiedByCurrentPlayer(int row, int col) {
-        return gameBoard.isOccupiedByPlayer(row, col, currentPlayer);
+    private boolean canJumpCapture(int square) {
+        int player = currentPlayer.ordinal();
+        long enemy = gameBoard.getPieces(nextPlayer());
+        long empty = ~gameBoard.getOccupied();
+        int[] landings = MoveTables.JUMP_LANDINGS[player][square];
+        int[] jumped = MoveTables.JUMPED_SQUARES[player][square];
+        for (int dir = 0; dir < MoveTables.DIRECTIONS; ++dir) {
+            int landing = landings[dir];
+            if (landing != MoveTables.NONE && (enemy & 1L << jumped[dir]) != 0 && (empty & 1L << landing) != 0)
+                return true;
+        }
+        return false;
     }
 
     /**
-     * Checks whether a given coordinate is occupied by the opponent player
-     * @param row row to check
-     * @param col column to check
-     * @return true - occupied by enemy player; false - otherwise
+     * Adds a move to the list of available moves and to the destination lookup of its origin square
+     * @param move packed move
      */
-    private boolean isOccupiedByEnemy(int row, int col) {
-        return gameBoard.isOccupiedByPlayer(row, col, nextPlayer());
+    private void addMove(int move) {
+        moves.add(move);
+        moveTargets[PackedMove.from(move)] |= 1L << PackedMove.to(move);
     }
 
     /**
-     * Returns whether there are enemy pieces in front and to the sides of the given coordinate
-     * @param row player row to check
-     * @param col player column to check
-     * @param colDirection the direction in which to test
-     * @return true - there is an enemy piece in the given direction of attack; false - otherwise
+     * Calculates the jumps of the current player's pieces
+     * @param own mask of the current player's pieces
+     * @param enemy mask of the opponent's pieces
+     * @param empty mask of the empty squares
      */
-    private boolean hasEnemyPiece(int row, int col, ColumnDirection colDirection) {
-        int enemyRow = row + rowDirection();
-        int enemyCol = col + colDirection.toInt();
-
-        return gameBoard.isValidCoordinate(enemyRow, enemyCol) && isOccupiedByEnemy(enemyRow, enemyCol);
+    private void calcJumpMoves(long own, long enemy, long empty) {
+        int[][] landings = MoveTables.JUMP_LANDINGS[currentPlayer.ordinal()];
+        int[][] jumped = MoveTables.JUMPED_SQUARES[currentPlayer.ordinal()];
+        for (long rest = own; rest != 0; rest &= rest - 1) {
+            int square = Long.numberOfTrailingZeros(rest);
+            for (int dir = 0; dir < MoveTables.DIRECTIONS; ++dir) {
+                int landing = landings[square][dir];
+                if (landing != MoveTables.NONE && (enemy & 1L << jumped[square][dir]) != 0
+                        && (empty & 1L << landing) != 0)
+                    addMove(PackedMove.jump(square, landing, jumped[square][dir]));
+            }
+        }
     }
 
     /**
-     * Checks whether a player could capture a piece from a given coordinate in a given direction
-     * @param row player row
-     * @param col player column
-     * @param colDirection the direction in which you would like to capture
-     * @return true - the piece in the given direction can be captured; false - otherwise
+     * Calculates the forward moves of the current player's pieces
+     * @param own mask of the current player's pieces
+     * @param empty mask of the empty squares
      */
-    private boolean canCapturePiece(int row, int col, ColumnDirection colDirection) {
-        return hasEnemyPiece(row, col, colDirection) && canJump(row, col, colDirection);
+    private void calcMovesForward(long own, long empty) {
+        int[][] steps = MoveTables.STEP_TARGETS[currentPlayer.ordinal()];
+        for (long rest = own; rest != 0; rest &= rest - 1) {
+            int square = Long.numberOfTrailingZeros(rest);
+            for (int dir = 0; dir < MoveTables.DIRECTIONS; ++dir) {
+                int target = steps[square][dir];
+                if (target != MoveTables.NONE && (empty & 1L << target) != 0)
+                    addMove(PackedMove.step(square, target));
+            }
+        }
     }
 
     /**
-     * Checks whether the current player piece can jump and capture
-     * @param row player piece row
-     * @param col player piece column
-     * @return true - the piece has an available jump capture move; false - otherwise
+     * Calculates the current moves available. Jumps are mandatory, so forward moves are only calculated when no piece
+     * can jump.
      */
-    private boolean canJumpCapture(int row, int col) {
-        if (!isOccupiedByCurrentPlayer(row, col)) return false;
+    private void calcMoves() {
+        for (int i = 0; i < moves.size(); ++i)
+            moveTargets[PackedMove.from(moves.get(i))] = 0;
+        moves.clear();
+        movesCalculated = true;
+        long own = gameBoard.getPieces(currentPlayer);
+        long enemy = gameBoard.getPieces(nextPlayer());
+        long empty = ~gameBoard.getOccupied();
+        calcJumpMoves(own, enemy, empty);
+        if (!moves.isEmpty()) return;
+        calcMovesForward(own, empty);
+    }
 
-        return canCapturePiece(row, col, ColumnDirection.LEFT) ||
-                canCapturePiece(row, col, ColumnDirection.RIGHT);
+    /**
+     * Calculates the available moves unless they are already known for the current position
+     */
+    private void ensureMoves() {
+        if (!movesCalculated)
+            calcMoves();
     }
 
     /**
-     * Checks whether a piece could jump from a given coordinate in a given direction
-     * @param row row to jump from
-     * @param col column to jump from
-     * @param colDirection direction to jump in
-     * @return true - the piece can jump in the given direction; false - otherwise
+     * Pushes a packed undo record onto the undo stack, growing the stack if it is full
+     * @param entry packed undo record
      */
-    private boolean canJump(int row, int col, ColumnDirection colDirection) {
-        int targetRow = row + 2 * rowDirection();
-        int targetCol = col + 2 * colDirection.toInt();
+    private void pushUndo(int entry) {
+        if (undoSize == undoStack.length)
+            undoStack = Arrays.copyOf(undoStack, undoSize * 2);
+        undoStack[undoSize++] = entry;
+    }
 
-        return gameBoard.isValidCoordinate(targetRow, targetCol) &&
-                gameBoard.isEmpty(targetRow, targetCol) &&
-                hasEnemyPiece(row, col, colDirection);
+    /**
+     * Constructs the CheckersLogic class by initializing the game board and setting the starting player.
+     * @param startingPlayer the player to move first
+     */
+    public CheckersLogic(Player startingPlayer) {
+        gameBoard = new Board();
+        currentPlayer = startingPlayer;
+        moves = new MoveList();
+        moveTargets = new long[gameBoard.getRows() * gameBoard.getCols()];
+        undoStack = new int[64];
     }
 
     /**
-     * Checks whether a valid piece from a coordinate can move forward either to the left or right
-     * @param row the player piece row
-     * @param col the player piece column
-     * @param colDirection the column direction, left or right
-     * @return true - the piece can move; false - the piece can't move
+     * Constructs the CheckersLogic class by initializing the game board and setting black as the starting player.
      */
-    private boolean canMove(int row, int col, ColumnDirection colDirection) {
-        int targetRow = row + rowDirection();
-        int targetCol = col + colDirection.toInt();
+    public CheckersLogic() {
+        this(Player.BLACK);
+    }
 
-        return gameBoard.isValidCoordinate(targetRow, targetCol) && gameBoard.isEmpty(targetRow, targetCol);
+    /**
+     * Constructs a game in the given position
+     * @param whitePieces mask of the white pieces
+     * @param blackPieces mask of the black pieces
+     * @param toMove the player to move
+     * @throws IllegalArgumentException if the masks overlap or use light squares
+     */
+    CheckersLogic(long whitePieces, long blackPieces, Player toMove) {
+        gameBoard = new Board(whitePieces, blackPieces);
+        currentPlayer = toMove;
+        moves = new MoveList();
+        moveTargets = new long[gameBoard.getRows() * gameBoard.getCols()];
+        undoStack = new int[64];
     }
 
     /**
-     * Checks whether a player piece can move forward
-     * @param row the player piece row
-     * @param col the player piece column
-     * @return true - the piece has moves available to it; false - otherwise
+     * Parses a position in FEN notation, such as B:W30,31,32:B1,2,3. The first field is the player to move, followed
+     * by the square numbers of the white and of the black pieces in either order. Squares are numbered 1 to 32 from
+     * black's side, as by Board.toSquareNumber. Regex: [WB](:[WB](\d+(,\d+)*)?){2}
+     * @param fen String representation of a position
+     * @return the position, with the given player to move
+     * @throws IllegalArgumentException if the notation is invalid
      */
-    private boolean canMove(int row, int col) {
-        if (!isOccupiedByCurrentPlayer(row, col)) return false;
+    public static CheckersLogic parseFen(String fen) {
+        var matcher = VALID_FEN.matcher(fen.trim());
+        if (!matcher.matches() || matcher.group(2).equals(matcher.group(4))) throw new IllegalArgumentException();
+
+        long[] pieces = new long[2];
+        pieces[colorIndex(matcher.group(2))] = parseFenSquares(matcher.group(3));
+        pieces[colorIndex(matcher.group(4))] = parseFenSquares(matcher.group(5));
+        Player toMove = matcher.group(1).equals("W") ? Player.WHITE : Player.BLACK;
+        return new CheckersLogic(pieces[0], pieces[1], toMove);
+    }
 
-        return canMove(row, col, ColumnDirection.LEFT) ||
-                canMove(row, col, ColumnDirection.RIGHT);
+    private static int colorIndex(String color) {
+        return color.equals("W") ? 0 : 1;
     }
 
     /**
-     * Calculates and populates a list with pieces that can currently jump
+     * Parses a comma-separated list of square numbers into a piece mask
+     * @param squares square numbers, possibly empty
+     * @return mask of the squares
      */
-    private void calcJumpPieces() {
-        jumpPieces.clear();
-        for (int i = 0; i < gameBoard.getRows(); ++i) {
-            for (int j = 0; j < gameBoard.getCols(); ++j) {
-                if (canJumpCapture(i, j))
-                    jumpPieces.add(new Coordinate(i, j));
-            }
+    private static long parseFenSquares(String squares) {
+        long mask = 0;
+        if (squares == null || squares.isEmpty()) return mask;
+        for (String number : squares.split(",")) {
+            mask |= 1L << Board.fromSquareNumber(Integer.parseInt(number));
         }
+        return mask;
     }
 
     /**
-     * Calculates and populates a list with pieces that can move forward
+     * Writes a piece mask as a comma-separated list of square numbers, in ascending order
+     * @param builder builder to append to
+     * @param pieces mask of the pieces
      */
-    private void calcMovePieces() {
-        movePieces.clear();
-        for (int i = 0; i < gameBoard.getRows(); ++i) {
-            for (int j = 0; j < gameBoard.getCols(); ++j) {
-                if (canMove(i, j))
-                    movePieces.add(new Coordinate(i, j));
-            }
+    private static void appendFenSquares(StringBuilder builder, long pieces) {
+        boolean first = true;
+        // Square numbers fall as square indices rise, so the highest index comes first
+        for (long rest = pieces; rest != 0; rest &= ~Long.highestOneBit(rest)) {
+            if (!first) builder.append(',');
+            builder.append(Board.toSquareNumber(Long.SIZE - 1 - Long.numberOfLeadingZeros(rest)));
+            first = false;
         }
     }
 
     /**
-     * Returns the move representing a jump in the given direction
-     * @param piece piece to jump
-     * @param colDirection direction to jump in
-     * @return Move representation of the jump
+     * Returns the current position in FEN notation, as read by parseFen
+     * @return String representation of the position
      */
-    private Move pieceJumpMove(Coordinate piece, ColumnDirection colDirection) {
-        int targetRow = piece.row() + 2 * rowDirection();
-        int targetCol = piece.col() + 2 * colDirection.toInt();
-
-        return new Move(piece, new Coordinate(targetRow, targetCol));
+    public String getFen() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(currentPlayer == Player.WHITE ? 'W' : 'B').append(":W");
+        appendFenSquares(builder, gameBoard.getPieces(Player.WHITE));
+        builder.append(":B");
+        appendFenSquares(builder, gameBoard.getPieces(Player.BLACK));
+        return builder.toString();
     }
 
     /**
-     * Calculates moves based on jumps
+     * Replaces the position without validating it and clears the undo stack. Used to walk through many positions, such
+     * as those of a tablebase, with one game object.
+     * @param whitePieces mask of the white pieces
+     * @param blackPieces mask of the black pieces
+     * @param toMove the player to move
      */
-    private void calcJumpMoves() {
-        for (Coordinate piece : jumpPieces) {
-            if (canJump(piece.row(), piece.col(), ColumnDirection.LEFT))
-                moves.add(pieceJumpMove(piece, ColumnDirection.LEFT));
-            if (canJump(piece.row(), piece.col(), ColumnDirection.RIGHT))
-                moves.add(pieceJumpMove(piece, ColumnDirection.RIGHT));
-        }
+    void setPosition(long whitePieces, long blackPieces, Player toMove) {
+        gameBoard.setPieces(whitePieces, blackPieces);
+        currentPlayer = toMove;
+        jumpContinuation = false;
+        undoSize = 0;
+        movesCalculated = false;
     }
 
     /**
-     * Returns the move representing a move forward in the given direction
-     * @param piece piece to move
-     * @param colDirection direction to move in
-     * @return Move representation of the move
+     * Constructs a copy of another game in its current position. The copy shares no state with the original and
+     * starts with an empty undo stack, so it can be searched on freely.
+     * @param other the game to copy
      */
-    private Move pieceForwardMove(Coordinate piece, ColumnDirection colDirection) {
-        int targetRow = piece.row() + rowDirection();
-        int targetCol = piece.col() + colDirection.toInt();
+    public CheckersLogic(CheckersLogic other) {
+        gameBoard = new Board(other.gameBoard);
+        currentPlayer = other.currentPlayer;
+        jumpContinuation = other.jumpContinuation;
+        moves = new MoveList();
+        moveTargets = new long[gameBoard.getRows() * gameBoard.getCols()];
+        undoStack = new int[64];
+    }
 
-        return new Move(piece, new Coordinate(targetRow, targetCol));
+    /**
+     * Checks if the given move is valid
+     * @param move the move given by the user
+     * @return true - move is valid; false - otherwise
+     */
+    public boolean isMoveValid(Move move) {
+        Coordinate from = move.from();
+        Coordinate to = move.to();
+        if (!gameBoard.isValidCoordinate(from.row(), from.col()) || !gameBoard.isValidCoordinate(to.row(), to.col()))
+            return false;
+        ensureMoves();
+        return (moveTargets[Board.toSquare(from.row(), from.col())] & Board.bit(to.row(), to.col())) != 0;
     }
 
     /**
-     * Calculates moves based on jumps
+     * Checks whether the game is over
+     * @return true - no more moves; false - otherwise
      */
-    private void calcMovesForward() {
-        for (Coordinate piece : movePieces) {
-            if (canMove(piece.row(), piece.col(), ColumnDirection.LEFT))
-                moves.add(pieceForwardMove(piece, ColumnDirection.LEFT));
-            if (canMove(piece.row(), piece.col(), ColumnDirection.RIGHT))
-                moves.add(pieceForwardMove(piece, ColumnDirection.RIGHT));
-        }
+    public boolean isGameOver() {
+        ensureMoves();
+        return moves.isEmpty();
     }
 
     /**
-     * Calculates the current moves available based on the lists of pieces that can jump or move forward
+     * Checks whether the player to move has a capture. Captures are mandatory, so in that case every legal move is a
+     * jump.
+     * @return true - the player to move must capture; false - otherwise
      */
-    private void calcMoves() {
-        moves.clear();
-        calcJumpPieces();
-        if (!jumpPieces.isEmpty()) {
-            calcJumpMoves();
-            return;
-        }
-        calcMovePieces();
-        calcMovesForward();
+    public boolean hasCaptures() {
+        ensureMoves();
+        return !moves.isEmpty() && PackedMove.isCapture(moves.get(0));
     }
 
     /**
-     * Calculates the current row direction based on the current player
-     * @return -1 for player black (up the board); 1 for player white (down the board)
+     * Moves the player according to the move provided. If it is a forward move, will move forward. If it is a jump, it
+     * will jump and automatically remove any captured pieces. However, if the move is invalid, the function will throw
+     * an exception.
+     * @param move the move to make
+     * @throws IllegalArgumentException when the move is invalid
      */
-    private int rowDirection() {
-        return currentPlayer == Player.BLACK ? -1 : 1;
+    public void move(Move move) {
+        if (!isMoveValid(move)) throw new IllegalArgumentException();
+        makeMove(move);
     }
 
     /**
-     * Moves a single piece with a standard forward move
-     * @param move the Move forward to make
+     * Makes a move without validating it and records how to take it back on the undo stack. A move spanning two rows
+     * is treated as a jump and removes the captured piece. The current player keeps the turn while the jumping piece
+     * can capture again. Intended for callers, such as a search, that only play moves returned by getMove.
+     * @param move a valid move for the current position
      */
-    private void moveForward(Move move) {
-        gameBoard.movePiece(move.from().row(), move.from().col(), move.to().row(), move.to().col());
+    public void makeMove(Move move) {
+        makeMove(PackedMove.of(move));
     }
 
     /**
-     * Calculates the column direction that a move makes
-     * @param move the move to make
-     * @return the column direction of the move
+     * Makes a packed move without validating it and records how to take it back on the undo stack. The allocation-free
+     * counterpart of makeMove(Move), for callers that play moves returned by getPackedMove.
+     * @param move a valid packed move for the current position
      */
-    private ColumnDirection moveColumnDirection(Move move) {
-        return move.from().col() > move.to().col() ? ColumnDirection.LEFT : ColumnDirection.RIGHT;
+    public void makeMove(int move) {
+        int entry = move;
+        if (currentPlayer == Player.WHITE) entry |= UNDO_WHITE_TO_MOVE;
+        if (jumpContinuation) entry |= UNDO_CONTINUATION;
+
+        int to = PackedMove.to(move);
+        gameBoard.movePieceAt(PackedMove.from(move), to);
+        if (PackedMove.isCapture(move)) {
+            gameBoard.removePieceAt(PackedMove.captured(move));
+            jumpContinuation = canJumpCapture(to);
+        } else {
+            jumpContinuation = false;
+        }
+        Player mover = currentPlayer;
+        if (!jumpContinuation)
+            currentPlayer = nextPlayer();
+        movesCalculated = false;
+        pushUndo(entry);
+        if (listeners.length > 0) publishMove(move, mover);
     }
 
     /**
-     * Moves a single piece with a jump
-     * @param move the jump move
+     * Takes back the last move made, restoring any captured piece, the player to move and the multi-jump state
+     * @throws IllegalStateException if there is no move to take back
      */
-    private void jump(Move move) {
-        gameBoard.movePiece(move.from().row(), move.from().col(), move.to().row(), move.to().col());
-        int removalRow = move.from().row() + rowDirection();
-        int removalCol = move.from().col() + moveColumnDirection(move).toInt();
-        gameBoard.removePiece(removalRow, removalCol);
+    public void unmakeMove() {
+        if (undoSize == 0) throw new IllegalStateException();
+        int entry = undoStack[--undoSize];
+        int move = entry & UNDO_MOVE_MASK;
+        Player previousPlayer = currentPlayer;
+
+        currentPlayer = (entry & UNDO_WHITE_TO_MOVE) != 0 ? Player.WHITE : Player.BLACK;
+        jumpContinuation = (entry & UNDO_CONTINUATION) != 0;
+        movesCalculated = false;
+        gameBoard.movePieceAt(PackedMove.to(move), PackedMove.from(move));
+        if (PackedMove.isCapture(move))
+            gameBoard.placePieceAt(PackedMove.captured(move), nextPlayer());
+        if (listeners.length > 0) publishTakeBack(move, currentPlayer != previousPlayer);
     }
 
-    private enum ColumnDirection {
-        LEFT(-1),
-        RIGHT(1);
-        private final int ratio;
+    /**
+     * Adds a listener to be told of every move, capture, change of turn, end of game and move taken back from now on.
+     * The event object passed to listeners is allocated with the first listener and reused for every event, so a game
+     * without listeners does no work for them beyond one check per move. Copies of the game do not inherit its
+     * listeners.
+     * @param listener the listener
+     */
+    public void addListener(GameListener listener) {
+        if (event == null) event = new GameEvent();
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
 
-        ColumnDirection(int ratio) {
-            this.ratio = ratio;
+    /**
+     * Removes a listener added with addListener
+     * @param listener the listener
+     * @return true - the listener was removed; false - it was not listening
+     */
+    public boolean removeListener(GameListener listener) {
+        for (int i = 0; i < listeners.length; ++i) {
+            if (listeners[i] == listener) {
+                GameListener[] remaining = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, remaining, i, listeners.length - i - 1);
+                listeners = remaining.length == 0 ? NO_LISTENERS : remaining;
+                return true;
+            }
         }
+        return false;
+    }
 
-        public int toInt() {
-            return ratio;
+    /**
+     * Fills the shared event and hands it to every listener
+     * @param type the kind of event
+     * @param player the player the event is about
+     * @param from square a piece moved from, or NO_SQUARE
+     * @param to square a piece moved to, or NO_SQUARE
+     * @param square square of a captured piece, or NO_SQUARE
+     */
+    private void publish(GameEvent.Type type, Player player, int from, int to, int square) {
+        event.set(type, player, from, to, square);
+        for (GameListener listener : listeners) {
+            listener.onEvent(event);
         }
     }
 
     /**
-     * Constructs the CheckersLogic class by initializing the game board and setting the starting player.
-     * @param startingPlayer the player to move first
+     * Reports a move just made, with its capture, the change of turn and the end of the game it caused
+     * @param move the packed move
+     * @param mover the player who made it
      */
-    public CheckersLogic(Player startingPlayer) {
-        gameBoard = new Board();
-        currentPlayer = startingPlayer;
-        jumpPieces = new ArrayList<>(12);
-        movePieces = new ArrayList<>(12);
-        moves = new ArrayList<>();
+    private void publishMove(int move, Player mover) {
+        int from = PackedMove.from(move);
+        int to = PackedMove.to(move);
+        publish(GameEvent.Type.PIECE_MOVED, mover, from, to, GameEvent.NO_SQUARE);
+        if (PackedMove.isCapture(move))
+            publish(GameEvent.Type.PIECE_CAPTURED, mover.opponent(), from, to, PackedMove.captured(move));
+        if (currentPlayer != mover)
+            publish(GameEvent.Type.TURN_CHANGED, currentPlayer, GameEvent.NO_SQUARE, GameEvent.NO_SQUARE,
+                    GameEvent.NO_SQUARE);
+        if (isGameOver())
+            publish(GameEvent.Type.GAME_OVER, nextPlayer(), GameEvent.NO_SQUARE, GameEvent.NO_SQUARE,
+                    GameEvent.NO_SQUARE);
     }
 
     /**
-     * Constructs the CheckersLogic class by initializing the game board and setting black as the starting player.
+     * Reports a move just taken back, and the change of turn back to its player
+     * @param move the packed move
+     * @param turnChanged whether the player to move changed
      */
-    public CheckersLogic() {
-        this(Player.BLACK);
+    private void publishTakeBack(int move, boolean turnChanged) {
+        int captured = PackedMove.isCapture(move) ? PackedMove.captured(move) : GameEvent.NO_SQUARE;
+        publish(GameEvent.Type.MOVE_TAKEN_BACK, currentPlayer, PackedMove.from(move), PackedMove.to(move), captured);
+        if (turnChanged)
+            publish(GameEvent.Type.TURN_CHANGED, currentPlayer, GameEvent.NO_SQUARE, GameEvent.NO_SQUARE,
+                    GameEvent.NO_SQUARE);
     }
 
     /**
-     * Checks if the given move is valid
-     * @param move the move given by the user
-     * @return true - move is valid; false - otherwise
+     * Lists every whole turn available to the current player. A turn is either a single step or a complete chain of
+     * jumps, up to the point where the opponent gets the move; if the current player is in the middle of a multi-jump,
+     * the turns continue that chain. Chains that reach the same position are listed once. The position is used as
+     * scratch space while the chains are explored, and is restored before returning.
+     * @param out the list to fill; its previous contents are replaced
      */
-    public boolean isMoveValid(Move move) {
-        calcMoves();
-        for (Move validMove : moves) {
-            if (validMove.equals(move))
-                return true;
+    public void getCompoundMoves(CompoundMoveList out) {
+        out.clear();
+        ensureMoves();
+        if (moves.isEmpty()) return;
+        if (!PackedMove.isCapture(moves.get(0))) {
+            chainPath = ensureChainPath(1);
+            for (int i = 0; i < moves.size(); ++i) {
+                chainPath[0] = moves.get(i);
+                out.add(chainPath, 1, 0);
+            }
+            return;
+        }
+        // The chains are explored on this position; listeners are not told of the scratch moves
+        GameListener[] silenced = listeners;
+        listeners = NO_LISTENERS;
+        try {
+            collectChains(out, 0);
+        } finally {
+            listeners = silenced;
         }
-        return false;
     }
 
     /**
-     * Checks whether the game is over
-     * @return true - no more moves; false - otherwise
+     * Returns chainPath, grown if needed to hold the given number of hops
+     * @param length the number of hops needed
+     * @return chainPath or a larger copy of it
      */
-    public boolean isGameOver() {
-        calcMoves();
-        return moves.isEmpty();
+    private int[] ensureChainPath(int length) {
+        if (chainPath.length >= length) return chainPath;
+        return Arrays.copyOf(chainPath, Math.max(length, 2 * chainPath.length));
     }
 
     /**
-     * Moves the player according to the move provided. If it is a forward move, will move forward. If it is a jump, it
-     * will jump and automatically remove any captured pieces. However, if the move is invalid, the function will throw
-     * an exception.
-     * @param move the move to make
-     * @throws IllegalArgumentException when the move is invalid
+     * Extends the chain of jumps in chainPath by every jump of the current position, adding each chain that ends the
+     * turn to the list
+     * @param out the list to add to
+     * @param length the number of hops already in chainPath
      */
-    public void move(Move move) {
-        if (!isMoveValid(move)) throw new IllegalArgumentException();
-        if (!jumpPieces.isEmpty()) {
-            jump(move);
-            if(!canJumpCapture(move.to().row(), move.to().col()))
-                currentPlayer = nextPlayer();
-        } else {
-            moveForward(move);
-            currentPlayer = nextPlayer();
+    private void collectChains(CompoundMoveList out, int length) {
+        if (chainMoves.length == length) {
+            chainMoves = Arrays.copyOf(chainMoves, length + 1);
+            chainMoves[length] = new MoveList();
+        }
+        MoveList level = chainMoves[length];
+        getMoves(level);
+        chainPath = ensureChainPath(length + 1);
+        Player mover = currentPlayer;
+        for (int i = 0; i < level.size(); ++i) {
+            chainPath[length] = level.get(i);
+            makeMove(level.get(i));
+            if (currentPlayer == mover) {
+                collectChains(out, length + 1);
+            } else {
+                out.add(chainPath, length + 1, getHash());
+            }
+            unmakeMove();
+        }
+    }
+
+    /**
+     * Makes a whole turn without validating it, so that unmakeCompoundMove takes it back in one call
+     * @param moves the list filled by getCompoundMoves for the current position
+     * @param i the index of the move to make
+     */
+    public void makeCompoundMove(CompoundMoveList moves, int i) {
+        int hops = moves.getHopCount(i);
+        makeMove(moves.getHop(i, 0));
+        undoStack[undoSize - 1] |= UNDO_COMPOUND_START;
+        for (int hop = 1; hop < hops; ++hop) {
+            makeMove(moves.getHop(i, hop));
         }
     }
 
+    /**
+     * Takes back the last turn made with makeCompoundMove, hop by hop down to its first hop
+     * @throws IllegalStateException if there is no compound move to take back
+     */
+    public void unmakeCompoundMove() {
+        int entry;
+        do {
+            if (undoSize == 0) throw new IllegalStateException();
+            entry = undoStack[undoSize - 1];
+            unmakeMove();
+        } while ((entry & UNDO_COMPOUND_START) == 0);
+    }
+
+    /**
+     * Returns the number of moves that can be taken back with unmakeMove
+     * @return number of recorded moves
+     */
+    public int getUndoCount() {
+        return undoSize;
+    }
+
+    /**
+     * Checks whether the current player is in the middle of a multi-jump, i.e. kept the turn after a capture
+     * @return true - the last move was a jump and the player must capture again; false - otherwise
+     */
+    public boolean isJumpContinuation() {
+        return jumpContinuation;
+    }
+
     /**
      * Returns the string representation of the current player
      * @return String player symbol
@@ -349,6 +576,57 @@ public class CheckersLogic {
         return nextPlayer().toString();
     }
 
+    /**
+     * Returns the mask of the squares occupied by a given player
+     * @param player the player whose pieces to return
+     * @return bit mask of the player's pieces, one bit per square numbered row * 8 + col
+     */
+    public long getPieces(Player player) {
+        return gameBoard.getPieces(player);
+    }
+
+    /**
+     * Returns the squares whose content differs from when this method was last called, so that a view can redraw
+     * only those. Moves taken back in the meantime leave no trace, and a copy of the game starts from the same state.
+     * @return mask of the changed squares, numbered row * 8 + col; on the first call, of every occupied square
+     */
+    public long takeChangedSquares() {
+        return gameBoard.takeChangedSquares();
+    }
+
+    /**
+     * Returns the Zobrist key of the current position, including the player to move
+     * @return 64-bit position key
+     */
+    public long getHash() {
+        return currentPlayer == Player.WHITE ? gameBoard.getHash() ^ Zobrist.WHITE_TO_MOVE : gameBoard.getHash();
+    }
+
+    /**
+     * Attaches a piece-square table to the board, whose sums are then kept up to date by every move and take-back
+     * @param table the table, or null to stop keeping sums
+     */
+    public void setPieceSquareTable(PieceSquareTable table) {
+        gameBoard.setPieceSquareTable(table);
+    }
+
+    /**
+     * Returns the piece-square table attached to the board
+     * @return the table, or null if none is attached
+     */
+    public PieceSquareTable getPieceSquareTable() {
+        return gameBoard.getPieceSquareTable();
+    }
+
+    /**
+     * Returns the running sum of the piece-square values of a player's pieces
+     * @param player the player
+     * @return the sum, or 0 if no table is attached
+     */
+    public int getPieceSquareScore(Player player) {
+        return gameBoard.getPieceSquareScore(player);
+    }
+
     /**
      * Returns the string representation of the game board in its current state
      * @return String representing the board
@@ -372,8 +650,7 @@ public class CheckersLogic {
      * @return number of moves for the current player
      */
     public int getMoveCount() {
-        if (moves.isEmpty())
-            calcMoves();
+        ensureMoves();
         return moves.size();
     }
 
@@ -383,6 +660,26 @@ public class CheckersLogic {
      * @return the possible Move
      */
     public Move getMove(int i) {
+        ensureMoves();
+        return PackedMove.toMove(moves.get(i));
+    }
+
+    /**
+     * Returns the i'th move possible in its packed form, without allocating
+     * @param i - the index of the possible move
+     * @return the possible packed move
+     */
+    public int getPackedMove(int i) {
+        ensureMoves();
         return moves.get(i);
     }
+
+    /**
+     * Copies every possible move of the current player into a list, without allocating
+     * @param out the list to fill; its previous contents are replaced
+     */
+    public void getMoves(MoveList out) {
+        ensureMoves();
+        out.copyFrom(moves);
+    }
 }
@@ -0,0 +1,111 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.Arrays;
+
+/**
+ * A list of compound moves: whole turns, each made of one or more packed hops. A quiet turn is a single step; a capture
+ * turn is the full chain of jumps played before the opponent gets the move. The hops of every move are stored back to
+ * back in one int array, so the list is refilled without allocating once it has grown to its working size.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class CompoundMoveList {
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private int[] hops;
+    private int[] starts;
+    private long[] keys;
+    private int size;
+
+    /**
+     * Constructs an empty list with room for the moves of any ordinary position
+     */
+    public CompoundMoveList() {
+        hops = new int[DEFAULT_CAPACITY];
+        starts = new int[DEFAULT_CAPACITY + 1];
+        keys = new long[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Appends a compound move, unless a move already in the list leads to the same position. Chains that capture the
+     * same pieces in a different order are therefore kept once.
+     * @param path the packed hops of the move, in the order they are played
+     * @param length the number of hops
+     * @param key Zobrist key of the position after the move, or 0 to skip the duplicate check
+     * @return true - the move was added; false - it duplicated an earlier move
+     */
+    boolean add(int[] path, int length, long key) {
+        if (key != 0) {
+            for (int i = 0; i < size; ++i) {
+                if (keys[i] == key) return false;
+            }
+        }
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            starts = Arrays.copyOf(starts, size * 2 + 1);
+        }
+        int start = starts[size];
+        if (start + length > hops.length)
+            hops = Arrays.copyOf(hops, Math.max(hops.length * 2, start + length));
+        System.arraycopy(path, 0, hops, start, length);
+        keys[size] = key;
+        starts[++size] = start + length;
+        return true;
+    }
+
+    /**
+     * Returns the number of hops of a move
+     * @param i index of the move
+     * @return 1 for a step or a single jump, more for a multi-jump
+     * @throws IndexOutOfBoundsException if i is not less than size
+     */
+    public int getHopCount(int i) {
+        if (i >= size) throw new IndexOutOfBoundsException(i);
+        return starts[i + 1] - starts[i];
+    }
+
+    /**
+     * Returns a hop of a move
+     * @param i index of the move
+     * @param hop index of the hop within the move
+     * @return packed hop
+     * @throws IndexOutOfBoundsException if either index is out of range
+     */
+    public int getHop(int i, int hop) {
+        if (hop < 0 || hop >= getHopCount(i)) throw new IndexOutOfBoundsException(hop);
+        return hops[starts[i] + hop];
+    }
+
+    /**
+     * Checks whether a move captures
+     * @param i index of the move
+     * @return true - the move is a chain of jumps; false - it is a step
+     * @throws IndexOutOfBoundsException if i is not less than size
+     */
+    public boolean isCapture(int i) {
+        return PackedMove.isCapture(getHop(i, 0));
+    }
+
+    /**
+     * Returns the number of moves in the list
+     * @return list size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the list has no moves
+     * @return true - the list is empty; false - otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every move, keeping the allocated capacity
+     */
+    public void clear() {
+        size = 0;
+    }
+}
@@ -1,18 +1,45 @@
 package rybchynskyi.checkersgui.core;
 
-import java.util.Objects;
 import java.util.regex.Pattern;
 
 /**
  * The representation of a board coordinate
  * @author Danylo Rybchynskyi
- * @version 2024-04-26
+ * @version 2026-10-17
  * @param row a row on the checkerboard
  * @param col a column on the checkerboard
  */
 public record Coordinate(int row, int col) {
     private static final Pattern VALID_INPUT = Pattern.compile("([1-8][a-h])");
     private static final char FIRST_CHARACTER = 'a';
+    private static final int SIZE = 8;
+    private static final Coordinate[] INTERNED = new Coordinate[SIZE * SIZE];
+
+    static {
+        for (int i = 0; i < INTERNED.length; ++i) {
+            INTERNED[i] = new Coordinate(i / SIZE, i % SIZE);
+        }
+    }
+
+    /**
+     * Returns the shared instance of an on-board coordinate, or a new coordinate if it is off the board
+     * @param row a row on the checkerboard
+     * @param col a column on the checkerboard
+     * @return Coordinate
+     */
+    public static Coordinate of(int row, int col) {
+        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) return new Coordinate(row, col);
+        return INTERNED[row * SIZE + col];
+    }
+
+    /**
+     * Returns the shared instance of a square
+     * @param square square index from 0 to 63, numbered row * 8 + col
+     * @return Coordinate
+     */
+    public static Coordinate ofSquare(int square) {
+        return INTERNED[square];
+    }
 
     /**
      * Parses a single checkers board input coordinate into a coordinate. Examples include 4g, 1a, etc.
@@ -27,7 +54,7 @@ public record Coordinate(int row, int col) {
         int row = 8 - Character.getNumericValue(input.charAt(0));
         int col = input.charAt(1) - FIRST_CHARACTER;
 
-        return new Coordinate(row, col);
+        return of(row, col);
     }
 
     @Override
@@ -40,6 +67,14 @@ public record Coordinate(int row, int col) {
 
     @Override
     public int hashCode() {
-        return Objects.hash(row, col);
+        return row * SIZE + col;
+    }
+
+    /**
+     * Formats the coordinate in the notation read by parse, such as 3a
+     * @return String representation of the coordinate
+     */
+    public String toNotation() {
+        return String.valueOf(8 - row) + (char) (FIRST_CHARACTER + col);
     }
 }
@@ -0,0 +1,15 @@
+package rybchynskyi.checkersgui.core;
+
+/**
+ * The abstract representation of a static evaluation used by the computer player's search
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public interface Evaluator {
+    /**
+     * Scores a position from the point of view of the player to move
+     * @param position the position to score
+     * @return positive - the player to move is better; negative - the opponent is better
+     */
+    int evaluate(CheckersLogic position);
+}
@@ -0,0 +1,124 @@
+package rybchynskyi.checkersgui.core;
+
+/**
+ * Something that happened in a game, as reported to a GameListener. A game fills one event object in place for every
+ * event it reports, so reporting allocates nothing; a listener must copy out whatever it wants to keep, because the
+ * object is overwritten by the next event. Squares are numbered row * 8 + col.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public final class GameEvent {
+    /**
+     * The kinds of events
+     */
+    public enum Type {
+        /**
+         * A piece of the player moved from a square to another
+         */
+        PIECE_MOVED,
+        /**
+         * A piece of the player was captured on the square by a jump from a square to another
+         */
+        PIECE_CAPTURED,
+        /**
+         * The player is now to move
+         */
+        TURN_CHANGED,
+        /**
+         * The player to move has no moves left; the player reported is the winner
+         */
+        GAME_OVER,
+        /**
+         * A move of the player from a square to another was taken back, restoring the piece captured on the square, if
+         * any
+         */
+        MOVE_TAKEN_BACK
+    }
+
+    /**
+     * Square of an event that involves no such square
+     */
+    public static final int NO_SQUARE = -1;
+
+    private Type type;
+    private Player player;
+    private int from = NO_SQUARE;
+    private int to = NO_SQUARE;
+    private int square = NO_SQUARE;
+
+    /**
+     * Constructs an empty event, to be filled by set or copyFrom
+     */
+    GameEvent() {
+    }
+
+    /**
+     * Overwrites the event
+     * @param type the kind of event
+     * @param player the player the event is about
+     * @param from square a piece moved from, or NO_SQUARE
+     * @param to square a piece moved to, or NO_SQUARE
+     * @param square square of a captured piece, or NO_SQUARE
+     */
+    void set(Type type, Player player, int from, int to, int square) {
+        this.type = type;
+        this.player = player;
+        this.from = from;
+        this.to = to;
+        this.square = square;
+    }
+
+    /**
+     * Overwrites the event with a copy of another
+     * @param other the event to copy
+     */
+    void copyFrom(GameEvent other) {
+        set(other.type, other.player, other.from, other.to, other.square);
+    }
+
+    /**
+     * Returns the kind of event
+     * @return event type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the player the event is about: the owner of the moved or captured piece, the player now to move, or the
+     * winner
+     * @return the player
+     */
+    public Player getPlayer() {
+        return player;
+    }
+
+    /**
+     * Returns the square a piece moved from
+     * @return square index, or NO_SQUARE
+     */
+    public int getFrom() {
+        return from;
+    }
+
+    /**
+     * Returns the square a piece moved to
+     * @return square index, or NO_SQUARE
+     */
+    public int getTo() {
+        return to;
+    }
+
+    /**
+     * Returns the square of a captured piece
+     * @return square index, or NO_SQUARE
+     */
+    public int getSquare() {
+        return square;
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + player.name() + " " + from + " " + to + " " + square;
+    }
+}
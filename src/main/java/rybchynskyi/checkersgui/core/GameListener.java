@@ -0,0 +1,18 @@
+package rybchynskyi.checkersgui.core;
+
+/**
+ * Receives the events of a game it is added to with CheckersLogic.addListener. Events are delivered synchronously on
+ * the thread that changes the game, in the order they happen; a listener that needs another thread or batching can
+ * be wrapped in a BatchingGameListener.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+@FunctionalInterface
+public interface GameListener {
+    /**
+     * Called for every event of the game. The event object is reused for the next event, and the game must not be
+     * changed from within this method.
+     * @param event the event
+     */
+    void onEvent(GameEvent event);
+}
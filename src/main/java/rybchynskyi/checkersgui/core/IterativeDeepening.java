@@ -0,0 +1,150 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Drives an alpha-beta search one depth at a time until a time budget runs out. The move returned is always the best
+ * move of the deepest completed iteration; an iteration still running at the deadline is aborted and thrown away. The
+ * first iteration is only aborted by stop, so a move is always found within a budget.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class IterativeDeepening {
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final AlphaBetaSearch search;
+    private final TranspositionTable table;
+    private final List<SearchIteration> iterations = new ArrayList<>();
+    private long nodes;
+    private long quiescenceNodes;
+    private long cutoffs;
+    private long firstMoveCutoffs;
+    private long elapsedNanos;
+    private int startDepth = 1;
+    private boolean newSearch = true;
+
+    /**
+     * Constructs the driver for a position
+     * @param position the position to search; modified during the search and restored afterwards
+     * @param evaluator the static evaluation for leaf positions
+     * @param table the transposition table to use, or null to search without one
+     */
+    public IterativeDeepening(CheckersLogic position, Evaluator evaluator, TranspositionTable table) {
+        search = new AlphaBetaSearch(position, evaluator, table);
+        this.table = table;
+    }
+
+    /**
+     * Sets an endgame tablebase for the search to look positions up in
+     * @param tablebase the tablebase, or null to search without one
+     */
+    public void setTablebase(Tablebase tablebase) {
+        search.setTablebase(tablebase);
+    }
+
+    /**
+     * Sets the depth of the first iteration. Parallel helper searches start at different depths so that they do not
+     * all search the same tree in lockstep.
+     * @param startDepth depth of the first iteration, at least 1
+     */
+    void setStartDepth(int startDepth) {
+        this.startDepth = startDepth;
+    }
+
+    /**
+     * Sets whether a search marks the start of a new search in the transposition table. Parallel searches sharing a
+     * table mark it once for all threads instead.
+     * @param newSearch true - every search advances the table generation; false - the caller does
+     */
+    void setNewSearch(boolean newSearch) {
+        this.newSearch = newSearch;
+    }
+
+    /**
+     * Searches with increasing depth until the budget is spent, the maximum depth is reached or the game result is
+     * known
+     * @param budgetMillis wall-clock budget in milliseconds, or 0 for no limit
+     * @param maxDepth the deepest iteration to run
+     * @return the best move of the last completed iteration, or null if the position has no moves
+     * @throws IllegalArgumentException if the depth is out of range or the budget is negative
+     */
+    public Move search(long budgetMillis, int maxDepth) {
+        if (maxDepth < 1 || maxDepth > AlphaBetaSearch.MAX_DEPTH || budgetMillis < 0)
+            throw new IllegalArgumentException();
+        iterations.clear();
+        nodes = 0;
+        quiescenceNodes = 0;
+        cutoffs = 0;
+        firstMoveCutoffs = 0;
+        if (table != null && newSearch) table.newSearch();
+        long start = System.nanoTime();
+        long deadline = budgetMillis == 0 ? Long.MAX_VALUE : start + budgetMillis * NANOS_PER_MILLI;
+        Move best = null;
+        int firstDepth = Math.min(startDepth, maxDepth);
+        for (int depth = firstDepth; depth <= maxDepth; ++depth) {
+            search.setDeadline(depth == firstDepth ? Long.MAX_VALUE : deadline);
+            int score = search.search(depth);
+            nodes += search.getNodes();
+            quiescenceNodes += search.getQuiescenceNodes();
+            cutoffs += search.getCutoffs();
+            firstMoveCutoffs += search.getFirstMoveCutoffs();
+            if (search.isAborted()) break;
+
+            best = search.getBestMove();
+            iterations.add(new SearchIteration(depth, score, search.getPrincipalVariation(),
+                    (System.nanoTime() - start) / NANOS_PER_MILLI, search.getNodes()));
+            if (best == null || Math.abs(score) > AlphaBetaSearch.WIN_SCORE - AlphaBetaSearch.MAX_PLY) break;
+            if (deadline != Long.MAX_VALUE && System.nanoTime() - deadline >= 0) break;
+        }
+        elapsedNanos = System.nanoTime() - start;
+        return best;
+    }
+
+    /**
+     * Asks a running search, possibly on another thread, to finish with its last completed iteration
+     */
+    public void stop() {
+        search.stop();
+    }
+
+    /**
+     * Returns the completed iterations of the last search, shallowest first
+     * @return list of iteration results
+     */
+    public List<SearchIteration> getIterations() {
+        return List.copyOf(iterations);
+    }
+
+    /**
+     * Returns the number of positions visited by all iterations of the last search, including an aborted one
+     * @return nodes searched
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the number of quiescence positions visited by all iterations of the last search
+     * @return quiescence nodes searched
+     */
+    public long getQuiescenceNodes() {
+        return quiescenceNodes;
+    }
+
+    /**
+     * Returns the search speed of the last search, counting main and quiescence nodes
+     * @return nodes searched per second
+     */
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : (nodes + quiescenceNodes) * 1_000_000_000L / elapsedNanos;
+    }
+
+    /**
+     * Returns the share of beta cutoffs caused by the first move searched, over every iteration of the last search
+     * @return first-move cutoff rate from 0 to 1
+     */
+    public double getFirstMoveCutoffRate() {
+        return cutoffs == 0 ? 0 : (double) firstMoveCutoffs / cutoffs;
+    }
+}
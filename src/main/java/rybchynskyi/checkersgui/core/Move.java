@@ -1,17 +1,57 @@
 package rybchynskyi.checkersgui.core;
 
-import java.util.Objects;
 import java.util.regex.Pattern;
 
 /**
  * Represents a move on a checkerboard
  * @author Danylo Rybchynskyi
- * @version 2024-04-26
+ * @version 2026-10-17
  * @param from the origin coordinate
  * @param to the destination coordinate
  */
 public record Move(Coordinate from, Coordinate to) {
     private static final Pattern VALID_INPUT = Pattern.compile("([1-8][a-h])-([1-8][a-h])");
+    private static final int DARK_SQUARES = 32;
+    private static final Move[] INTERNED = new Move[DARK_SQUARES * DARK_SQUARES];
+
+    static {
+        for (int from = 1; from <= DARK_SQUARES; ++from) {
+            for (int to = 1; to <= DARK_SQUARES; ++to) {
+                INTERNED[(from - 1) * DARK_SQUARES + to - 1] = new Move(
+                        Coordinate.ofSquare(Board.fromSquareNumber(from)),
+                        Coordinate.ofSquare(Board.fromSquareNumber(to)));
+            }
+        }
+    }
+
+    /**
+     * Returns the shared instance of a move between two squares. Moves between dark squares are interned; any other
+     * move is allocated.
+     * @param from origin square index from 0 to 63
+     * @param to destination square index from 0 to 63
+     * @return Move
+     */
+    public static Move of(int from, int to) {
+        long dark = Board.DARK_SQUARES;
+        if ((dark >>> from & 1) == 0 || (dark >>> to & 1) == 0)
+            return new Move(Coordinate.ofSquare(from), Coordinate.ofSquare(to));
+        return INTERNED[(Board.toSquareNumber(from) - 1) * DARK_SQUARES + Board.toSquareNumber(to) - 1];
+    }
+
+    /**
+     * Returns the shared instance of a move between two coordinates, or a new move if either is off the board
+     * @param from the origin coordinate
+     * @param to the destination coordinate
+     * @return Move
+     */
+    public static Move of(Coordinate from, Coordinate to) {
+        if (!isOnBoard(from) || !isOnBoard(to)) return new Move(from, to);
+        return of(Board.toSquare(from.row(), from.col()), Board.toSquare(to.row(), to.col()));
+    }
+
+    private static boolean isOnBoard(Coordinate coordinate) {
+        return coordinate.row() >= 0 && coordinate.row() < 8 && coordinate.col() >= 0 && coordinate.col() < 8;
+    }
 
     /**
      * Parses a double checkers board input, such as a representation of a source and destination coordinates.
@@ -23,7 +63,7 @@ public record Move(Coordinate from, Coordinate to) {
         var matcher = VALID_INPUT.matcher(input);
         if (!matcher.matches()) throw new IllegalArgumentException();
 
-        return new Move(
+        return of(
                 Coordinate.parse(matcher.group(1)),
                 Coordinate.parse(matcher.group(2))
         );
@@ -39,6 +79,14 @@ public record Move(Coordinate from, Coordinate to) {
 
     @Override
     public int hashCode() {
-        return Objects.hash(from, to);
+        return 31 * from.hashCode() + to.hashCode();
+    }
+
+    /**
+     * Formats the move in the notation read by parseMove, such as 3a-4b
+     * @return String representation of the move
+     */
+    public String toNotation() {
+        return from.toNotation() + "-" + to.toNotation();
     }
 }
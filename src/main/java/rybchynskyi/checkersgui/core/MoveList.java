@@ -0,0 +1,89 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.Arrays;
+
+/**
+ * A growable list of packed moves backed by an int array. It is cleared and refilled rather than reallocated, so move
+ * generation into it does not allocate once it has grown to its working size.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class MoveList {
+    private static final int DEFAULT_CAPACITY = 32;
+
+    private int[] moves;
+    private int size;
+
+    /**
+     * Constructs an empty list with room for the moves of any ordinary position
+     */
+    public MoveList() {
+        moves = new int[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Appends a packed move
+     * @param move packed move
+     */
+    public void add(int move) {
+        if (size == moves.length)
+            moves = Arrays.copyOf(moves, size * 2);
+        moves[size++] = move;
+    }
+
+    /**
+     * Returns the i'th packed move
+     * @param i index of the move
+     * @return packed move
+     * @throws IndexOutOfBoundsException if i is not less than size
+     */
+    public int get(int i) {
+        if (i >= size) throw new IndexOutOfBoundsException(i);
+        return moves[i];
+    }
+
+    /**
+     * Replaces the i'th packed move, e.g. when reordering moves
+     * @param i index of the move
+     * @param move packed move
+     * @throws IndexOutOfBoundsException if i is not less than size
+     */
+    public void set(int i, int move) {
+        if (i >= size) throw new IndexOutOfBoundsException(i);
+        moves[i] = move;
+    }
+
+    /**
+     * Returns the number of moves in the list
+     * @return list size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks whether the list has no moves
+     * @return true - the list is empty; false - otherwise
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Removes every move, keeping the allocated capacity
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of another
+     * @param other the list to copy
+     */
+    public void copyFrom(MoveList other) {
+        if (moves.length < other.size)
+            moves = new int[other.moves.length];
+        System.arraycopy(other.moves, 0, moves, 0, other.size);
+        size = other.size;
+    }
+}
@@ -0,0 +1,136 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.Arrays;
+
+/**
+ * Orders the moves of a search node so that the moves most likely to cause a cutoff are searched first, starting with
+ * the hash move. Captures are mandatory, so the moves of a node are either all captures or all quiet moves: captures
+ * are ordered by the number of pieces they take, and quiet moves by the two killer moves of the ply and then by their
+ * butterfly history score. The killers are the last quiet moves that caused a cutoff at the same ply; the history table
+ * counts, for every from and to square, how often a quiet move between them caused a cutoff, weighted by the remaining
+ * depth. Moves may carry extra bits above PackedMove.BITS that identify them within their node; those bits only matter
+ * for the hash move, while killers and history look at the packed hop alone.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+class MoveOrderer {
+    private static final int SQUARES = 64;
+    private static final int KILLERS = 2;
+    private static final int HASH_SCORE = 1 << 30;
+    private static final int KILLER_SCORE = 1 << 28;
+    private static final int HISTORY_LIMIT = KILLER_SCORE >> 1;
+    private static final int HOP_MASK = (1 << PackedMove.BITS) - 1;
+
+    private final int[][] killers;
+    private final int[] history = new int[SQUARES * SQUARES];
+    private int[] scores;
+
+    /**
+     * Constructs an orderer for searches up to the given ply
+     * @param maxPly the number of plies to keep killers for
+     * @param maxMoves the number of moves of a node to size the scratch space for
+     */
+    MoveOrderer(int maxPly, int maxMoves) {
+        killers = new int[maxPly][KILLERS];
+        scores = new int[maxMoves];
+    }
+
+    private static int historyIndex(int move) {
+        return PackedMove.from(move) * SQUARES + PackedMove.to(move);
+    }
+
+    /**
+     * Sorts the moves of a node, best candidates first
+     * @param moves the packed moves of the node
+     * @param captured the number of pieces each move takes, at the same index as the move; 0 for a quiet move
+     * @param moveCount the number of moves
+     * @param hashMove the best move stored for the node, or PackedMove.NONE
+     * @param ply distance from the root
+     */
+    void order(int[] moves, int[] captured, int moveCount, int hashMove, int ply) {
+        if (scores.length < moveCount)
+            scores = new int[moveCount];
+        int[] killer = killers[ply];
+        for (int i = 0; i < moveCount; ++i) {
+            int move = moves[i];
+            int hop = move & HOP_MASK;
+            if (move == hashMove) {
+                scores[i] = HASH_SCORE;
+            } else if (captured[i] > 0) {
+                scores[i] = captured[i];
+            } else if (hop == killer[0]) {
+                scores[i] = KILLER_SCORE;
+            } else if (hop == killer[1]) {
+                scores[i] = KILLER_SCORE - 1;
+            } else {
+                scores[i] = history[historyIndex(move)];
+            }
+        }
+        // Insertion sort: a node has at most a few dozen moves, and it keeps equal scores in generation order
+        for (int i = 1; i < moveCount; ++i) {
+            int move = moves[i];
+            int score = scores[i];
+            int j = i - 1;
+            while (j >= 0 && scores[j] < score) {
+                moves[j + 1] = moves[j];
+                scores[j + 1] = scores[j];
+                --j;
+            }
+            moves[j + 1] = move;
+            scores[j + 1] = score;
+        }
+    }
+
+    /**
+     * Records a move that caused a beta cutoff. Captures never compete with quiet moves, so only quiet moves update
+     * the killers and the history.
+     * @param move the packed move
+     * @param depth remaining depth of the node
+     * @param ply distance from the root
+     */
+    void recordCutoff(int move, int depth, int ply) {
+        if (PackedMove.isCapture(move)) return;
+        int hop = move & HOP_MASK;
+        int[] killer = killers[ply];
+        if (killer[0] != hop) {
+            killer[1] = killer[0];
+            killer[0] = hop;
+        }
+        int index = historyIndex(move);
+        history[index] += depth * depth;
+        if (history[index] > HISTORY_LIMIT) {
+            for (int i = 0; i < history.length; ++i) {
+                history[i] >>= 1;
+            }
+        }
+    }
+
+    /**
+     * Returns the history score of a move
+     * @param move the packed move
+     * @return accumulated cutoff weight of its from and to squares
+     */
+    int getHistory(int move) {
+        return history[historyIndex(move)];
+    }
+
+    /**
+     * Returns a killer move of a ply
+     * @param ply distance from the root
+     * @param slot 0 for the most recent killer, 1 for the one before
+     * @return packed move, or PackedMove.NONE
+     */
+    int getKiller(int ply, int slot) {
+        return killers[ply][slot];
+    }
+
+    /**
+     * Forgets every killer and history score
+     */
+    void clear() {
+        for (int[] killer : killers) {
+            Arrays.fill(killer, PackedMove.NONE);
+        }
+        Arrays.fill(history, 0);
+    }
+}
@@ -0,0 +1,72 @@
+package rybchynskyi.checkersgui.core;
+
+/**
+ * Precomputed move targets of every square for each player, built once when the class is loaded. For each square and
+ * each of the two forward diagonals the tables hold the square a piece steps to, the square it lands on when jumping
+ * and the square it jumps over, or NONE where the move would leave the board. The move generator only looks these up,
+ * so it never does coordinate arithmetic or bounds checks.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+final class MoveTables {
+    /**
+     * Marks a move that would leave the board
+     */
+    static final int NONE = -1;
+    /**
+     * Number of forward diagonals; direction 0 is towards column a, direction 1 towards column h
+     */
+    static final int DIRECTIONS = 2;
+
+    private static final int ROWS = 8;
+    private static final int COLS = 8;
+    private static final int SQUARES = ROWS * COLS;
+    private static final int[] COLUMN_STEPS = {-1, 1};
+
+    /**
+     * Square a piece steps to, indexed by [player ordinal][square][direction]
+     */
+    static final int[][][] STEP_TARGETS = new int[Player.values().length][SQUARES][DIRECTIONS];
+    /**
+     * Square a piece lands on after a jump, indexed by [player ordinal][square][direction]
+     */
+    static final int[][][] JUMP_LANDINGS = new int[Player.values().length][SQUARES][DIRECTIONS];
+    /**
+     * Square a piece jumps over, indexed by [player ordinal][square][direction]
+     */
+    static final int[][][] JUMPED_SQUARES = new int[Player.values().length][SQUARES][DIRECTIONS];
+
+    static {
+        for (Player player : Player.values()) {
+            int rowStep = player == Player.BLACK ? -1 : 1;
+            for (int square = 0; square < SQUARES; ++square) {
+                int row = square / COLS;
+                int col = square % COLS;
+                for (int dir = 0; dir < DIRECTIONS; ++dir) {
+                    int colStep = COLUMN_STEPS[dir];
+                    STEP_TARGETS[player.ordinal()][square][dir] = target(row + rowStep, col + colStep);
+                    boolean canJump = target(row + 2 * rowStep, col + 2 * colStep) != NONE;
+                    JUMP_LANDINGS[player.ordinal()][square][dir] =
+                            canJump ? target(row + 2 * rowStep, col + 2 * colStep) : NONE;
+                    JUMPED_SQUARES[player.ordinal()][square][dir] =
+                            canJump ? target(row + rowStep, col + colStep) : NONE;
+                }
+            }
+        }
+    }
+
+    private MoveTables() {
+    }
+
+    /**
+     * Returns the square index of a coordinate, or NONE if it is off the board
+     * @param row the board row
+     * @param col the board column
+     * @return square index or NONE
+     */
+    private static int target(int row, int col) {
+        if (row < 0 || row >= ROWS || col < 0 || col >= COLS) return NONE;
+        return row * COLS + col;
+    }
+
+}
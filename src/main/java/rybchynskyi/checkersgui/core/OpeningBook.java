@@ -0,0 +1,110 @@
+package rybchynskyi.checkersgui.core;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An opening book read from a file written by OpeningBookBuilder. The file is a flat array of 16-byte records, each a
+ * position key (long), a packed move (int) and a weight (int), sorted by key and then by move; a position with several
+ * book moves has one record per move. The file is mapped read-only and looked up by binary search, so a probe costs a
+ * few reads from the mapping and allocates nothing but the returned flyweight Move.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class OpeningBook {
+    /**
+     * The size of one record in bytes
+     */
+    public static final int RECORD_BYTES = Long.BYTES + 2 * Integer.BYTES;
+
+    private final MappedByteBuffer records;
+    private final int size;
+
+    /**
+     * Maps a book file
+     * @param file the file to read
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the file size is not a whole number of records
+     */
+    public OpeningBook(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long bytes = channel.size();
+            if (bytes % RECORD_BYTES != 0 || bytes / RECORD_BYTES > Integer.MAX_VALUE / RECORD_BYTES)
+                throw new IllegalArgumentException();
+            records = channel.map(FileChannel.MapMode.READ_ONLY, 0, bytes);
+            size = (int) (bytes / RECORD_BYTES);
+        }
+    }
+
+    private long keyAt(int record) {
+        return records.getLong(record * RECORD_BYTES);
+    }
+
+    private int moveAt(int record) {
+        return records.getInt(record * RECORD_BYTES + Long.BYTES);
+    }
+
+    private int weightAt(int record) {
+        return records.getInt(record * RECORD_BYTES + Long.BYTES + Integer.BYTES);
+    }
+
+    /**
+     * Finds the first record of a key
+     * @param key position key
+     * @return index of the first record with the key, or of the first record after it if there is none
+     */
+    private int lowerBound(long key) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keyAt(middle) < key) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Looks up the book move of a position. Of several book moves the one with the highest weight is chosen. A move
+     * that is not legal in the position, which can only happen on a key collision, is never returned.
+     * @param position the position to look up
+     * @return the packed book move, or PackedMove.NONE if the position is not in the book
+     */
+    public int probePacked(CheckersLogic position) {
+        long key = position.getHash();
+        int best = PackedMove.NONE;
+        int bestWeight = 0;
+        for (int i = lowerBound(key); i < size && keyAt(i) == key; ++i) {
+            int move = moveAt(i);
+            if (weightAt(i) > bestWeight && position.isMoveValid(PackedMove.toMove(move))) {
+                best = move;
+                bestWeight = weightAt(i);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Looks up the book move of a position
+     * @param position the position to look up
+     * @return the book Move, or null if the position is not in the book
+     */
+    public Move probe(CheckersLogic position) {
+        int move = probePacked(position);
+        return move == PackedMove.NONE ? null : PackedMove.toMove(move);
+    }
+
+    /**
+     * Returns the number of records in the book
+     * @return record count
+     */
+    public int size() {
+        return size;
+    }
+}
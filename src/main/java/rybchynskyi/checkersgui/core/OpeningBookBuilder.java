@@ -0,0 +1,140 @@
+package rybchynskyi.checkersgui.core;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Builds an opening book from engine self-play. Every game starts from the initial position; for the first plies of
+ * the game, each position is searched to a fixed depth and the engine's move is recorded with one unit of weight. To
+ * cover more than one line, a random legal move is played instead of the engine's move with a given probability; the
+ * engine's move is still recorded for the position. Keys are sorted as signed longs, the order OpeningBook searches
+ * in. The random generator is seeded, so a build is reproducible.
+ * Usage: OpeningBookBuilder file games plies depth [variety] [seed]
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class OpeningBookBuilder {
+    private static final String USAGE = "Usage: OpeningBookBuilder file games plies depth [variety] [seed]";
+    private static final int TABLE_MB = 16;
+
+    private final int plies;
+    private final int depth;
+    private final double variety;
+    private final Random random;
+    private final Evaluator evaluator = new StandardEvaluator();
+    private final TranspositionTable table = new TranspositionTable(TABLE_MB);
+    private final Map<Long, Map<Integer, Integer>> weights = new HashMap<>();
+    private int games;
+
+    /**
+     * Constructs a builder
+     * @param plies the number of hops of every game to record
+     * @param depth the search depth of the engine moves
+     * @param variety the probability, from 0 to 1, of playing a random move instead of the engine's move
+     * @param seed seed of the random generator
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public OpeningBookBuilder(int plies, int depth, double variety, long seed) {
+        if (plies < 1 || depth < 1 || depth > AlphaBetaSearch.MAX_DEPTH || variety < 0 || variety > 1)
+            throw new IllegalArgumentException();
+        this.plies = plies;
+        this.depth = depth;
+        this.variety = variety;
+        random = new Random(seed);
+    }
+
+    /**
+     * Plays one self-play game through the book plies and records the engine's moves
+     */
+    public void playGame() {
+        CheckersLogic game = new CheckersLogic();
+        for (int ply = 0; ply < plies && !game.isGameOver(); ++ply) {
+            IterativeDeepening search = new IterativeDeepening(new CheckersLogic(game), evaluator, table);
+            Move best = search.search(0, depth);
+            weights.computeIfAbsent(game.getHash(), key -> new HashMap<>())
+                    .merge(PackedMove.of(best), 1, Integer::sum);
+            Move played = random.nextDouble() < variety ? game.getMove(random.nextInt(game.getMoveCount())) : best;
+            game.move(played);
+        }
+        games++;
+    }
+
+    /**
+     * Writes the book, sorted by key and then by move
+     * @param file the file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path file) throws IOException {
+        TreeMap<Long, Map<Integer, Integer>> sorted = new TreeMap<>(weights);
+        try (OutputStream stream = Files.newOutputStream(file);
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream))) {
+            for (Map.Entry<Long, Map<Integer, Integer>> position : sorted.entrySet()) {
+                for (Map.Entry<Integer, Integer> move : new TreeMap<>(position.getValue()).entrySet()) {
+                    out.writeLong(position.getKey());
+                    out.writeInt(move.getKey());
+                    out.writeInt(move.getValue());
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of games played
+     * @return game count
+     */
+    public int getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of distinct positions recorded
+     * @return position count
+     */
+    public int getPositions() {
+        return weights.size();
+    }
+
+    /**
+     * Builds a book from the command line
+     * @param args the output file, the number of games, the plies and depth per game, and optionally the variety and
+     *             the seed
+     */
+    public static void main(String[] args) {
+        Path file;
+        int games;
+        OpeningBookBuilder builder;
+        try {
+            file = Path.of(args[0]);
+            games = Integer.parseInt(args[1]);
+            int plies = Integer.parseInt(args[2]);
+            int depth = Integer.parseInt(args[3]);
+            double variety = args.length > 4 ? Double.parseDouble(args[4]) : 0.3;
+            long seed = args.length > 5 ? Long.parseLong(args[5]) : 1;
+            builder = new OpeningBookBuilder(plies, depth, variety, seed);
+        } catch (RuntimeException e) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < games; ++i) {
+            builder.playGame();
+        }
+        try {
+            builder.write(file);
+        } catch (IOException e) {
+            System.err.println("Cannot write the book: " + e.getMessage());
+            return;
+        }
+        System.out.printf("%d games, %d positions, %d ms%n", builder.getGames(), builder.getPositions(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+}
@@ -0,0 +1,112 @@
+package rybchynskyi.checkersgui.core;
+
+/**
+ * Encodes a move as a single int so that the move generator and the search never allocate. The low 6 bits hold the
+ * origin square, the next 6 bits the destination square, the next 6 bits the captured square, and bit 18 marks a
+ * capture. Squares are indexed row * 8 + col, as in Board. The value 0 is never a legal move and stands for "no move".
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public final class PackedMove {
+    /**
+     * Stands for the absence of a move
+     */
+    public static final int NONE = 0;
+
+    private static final int SQUARE_BITS = 6;
+    private static final int SQUARE_MASK = (1 << SQUARE_BITS) - 1;
+    private static final int TO_SHIFT = SQUARE_BITS;
+    private static final int CAPTURED_SHIFT = 2 * SQUARE_BITS;
+    private static final int CAPTURE_FLAG = 1 << (3 * SQUARE_BITS);
+
+    /**
+     * Number of low bits used by a packed move
+     */
+    public static final int BITS = 3 * SQUARE_BITS + 1;
+
+    private PackedMove() {
+    }
+
+    /**
+     * Packs a forward move
+     * @param from origin square
+     * @param to destination square
+     * @return packed move
+     */
+    public static int step(int from, int to) {
+        return from | to << TO_SHIFT;
+    }
+
+    /**
+     * Packs a jump
+     * @param from origin square
+     * @param to landing square
+     * @param captured square of the captured piece
+     * @return packed move
+     */
+    public static int jump(int from, int to, int captured) {
+        return from | to << TO_SHIFT | captured << CAPTURED_SHIFT | CAPTURE_FLAG;
+    }
+
+    /**
+     * Packs a Move, treating a move across two rows as a jump over the square in between
+     * @param move the move to pack
+     * @return packed move
+     */
+    public static int of(Move move) {
+        int fromRow = move.from().row();
+        int fromCol = move.from().col();
+        int toRow = move.to().row();
+        int toCol = move.to().col();
+        int from = Board.toSquare(fromRow, fromCol);
+        int to = Board.toSquare(toRow, toCol);
+        if (Math.abs(toRow - fromRow) == 2)
+            return jump(from, to, Board.toSquare((fromRow + toRow) / 2, (fromCol + toCol) / 2));
+        return step(from, to);
+    }
+
+    /**
+     * Returns the origin square of a packed move
+     * @param move packed move
+     * @return square index
+     */
+    public static int from(int move) {
+        return move & SQUARE_MASK;
+    }
+
+    /**
+     * Returns the destination square of a packed move
+     * @param move packed move
+     * @return square index
+     */
+    public static int to(int move) {
+        return (move >>> TO_SHIFT) & SQUARE_MASK;
+    }
+
+    /**
+     * Returns the captured square of a packed jump
+     * @param move packed move
+     * @return square index; only meaningful if isCapture is true
+     */
+    public static int captured(int move) {
+        return (move >>> CAPTURED_SHIFT) & SQUARE_MASK;
+    }
+
+    /**
+     * Checks whether a packed move is a jump
+     * @param move packed move
+     * @return true - the move captures a piece; false - otherwise
+     */
+    public static boolean isCapture(int move) {
+        return (move & CAPTURE_FLAG) != 0;
+    }
+
+    /**
+     * Returns the shared Move instance of a packed move
+     * @param move packed move
+     * @return the Move flyweight
+     */
+    public static Move toMove(int move) {
+        return Move.of(from(move), to(move));
+    }
+}
@@ -0,0 +1,181 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A multi-threaded search using Lazy SMP: every thread runs its own iterative-deepening search on its own copy of the
+ * position, and the threads share only the transposition table. The calling thread runs the main search and its
+ * result is the one returned; helper threads fill the table with results the main search picks up, and are stopped
+ * as soon as the main search finishes. Unlike a single-threaded search, the result depends on thread timing.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class ParallelSearch {
+    private final int threads;
+    private final Evaluator evaluator;
+    private final TranspositionTable table;
+    private final ExecutorService helpers;
+    private volatile Tablebase tablebase;
+    private volatile IterativeDeepening[] running = new IterativeDeepening[0];
+    private volatile boolean cancelled;
+    private List<SearchIteration> iterations = List.of();
+    private long nodes;
+    private long quiescenceNodes;
+    private long elapsedNanos;
+
+    /**
+     * Constructs the search with a pool of helper threads
+     * @param threads total number of search threads, including the calling thread
+     * @param evaluator the static evaluation for leaf positions
+     * @param table the transposition table shared by all threads
+     * @throws IllegalArgumentException if threads is less than 1 or the table is missing
+     */
+    public ParallelSearch(int threads, Evaluator evaluator, TranspositionTable table) {
+        if (threads < 1 || table == null) throw new IllegalArgumentException();
+        this.threads = threads;
+        this.evaluator = evaluator;
+        this.table = table;
+        helpers = threads > 1 ? Executors.newFixedThreadPool(threads - 1, runnable -> {
+            Thread thread = new Thread(runnable, "checkers-search-helper");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
+    }
+
+    /**
+     * Sets an endgame tablebase for every thread to look positions up in
+     * @param tablebase the tablebase, or null to search without one
+     */
+    public void setTablebase(Tablebase tablebase) {
+        this.tablebase = tablebase;
+    }
+
+    /**
+     * Searches a position with all threads
+     * @param position the position to search; it is copied and never modified
+     * @param budgetMillis wall-clock budget in milliseconds, or 0 for no limit
+     * @param maxDepth the deepest iteration of the main search
+     * @return the best move of the main search, or null if the position has no moves
+     */
+    public Move search(CheckersLogic position, long budgetMillis, int maxDepth) {
+        long start = System.nanoTime();
+        table.newSearch();
+        IterativeDeepening[] searches = new IterativeDeepening[threads];
+        for (int i = 0; i < threads; ++i) {
+            searches[i] = new IterativeDeepening(new CheckersLogic(position), evaluator, table);
+            searches[i].setStartDepth(1 + i % 2);
+            searches[i].setNewSearch(false);
+            searches[i].setTablebase(tablebase);
+        }
+        running = searches;
+        // A cancel that saw the previous searches, or none, is picked up here
+        if (cancelled) stop();
+
+        List<Future<?>> futures = new ArrayList<>(threads - 1);
+        for (int i = 1; i < threads; ++i) {
+            IterativeDeepening helper = searches[i];
+            futures.add(helpers.submit(() -> helper.search(budgetMillis, AlphaBetaSearch.MAX_DEPTH)));
+        }
+        Move best = searches[0].search(budgetMillis, maxDepth);
+        for (int i = 1; i < threads; ++i) {
+            searches[i].stop();
+        }
+        for (Future<?> future : futures) {
+            waitFor(future);
+        }
+
+        nodes = 0;
+        quiescenceNodes = 0;
+        for (IterativeDeepening search : searches) {
+            nodes += search.getNodes();
+            quiescenceNodes += search.getQuiescenceNodes();
+        }
+        iterations = searches[0].getIterations();
+        elapsedNanos = System.nanoTime() - start;
+        return best;
+    }
+
+    /**
+     * Waits for a helper search to finish
+     * @param future the helper's task
+     */
+    private static void waitFor(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Asks a running search, possibly on another thread, to finish with its last completed iteration
+     */
+    public void stop() {
+        for (IterativeDeepening search : running) {
+            search.stop();
+        }
+    }
+
+    /**
+     * Stops a running search, possibly on another thread, and every later search as soon as it starts. Each stopped
+     * search returns the move of its last completed iteration, or null if none has completed.
+     */
+    public void cancel() {
+        cancelled = true;
+        stop();
+    }
+
+    /**
+     * Stops the helper threads. The search cannot be used afterwards.
+     */
+    public void shutdown() {
+        if (helpers != null) helpers.shutdownNow();
+    }
+
+    /**
+     * Returns the number of search threads
+     * @return thread count, including the calling thread
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Returns the completed iterations of the main search
+     * @return list of iteration results, shallowest first
+     */
+    public List<SearchIteration> getIterations() {
+        return iterations;
+    }
+
+    /**
+     * Returns the number of positions visited by all threads during the last search
+     * @return nodes searched
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the number of quiescence positions visited by all threads during the last search
+     * @return quiescence nodes searched
+     */
+    public long getQuiescenceNodes() {
+        return quiescenceNodes;
+    }
+
+    /**
+     * Returns the combined search speed of all threads during the last search, counting main and quiescence nodes
+     * @return nodes searched per second
+     */
+    public long getNodesPerSecond() {
+        return elapsedNanos == 0 ? 0 : (nodes + quiescenceNodes) * 1_000_000_000L / elapsedNanos;
+    }
+}
@@ -0,0 +1,429 @@
+package rybchynskyi.checkersgui.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Reads games in Portable Draughts Notation (PDN) one at a time from a channel. A game is a list of tag pairs such as
+ * [Event "Club match"], followed by the move text: move numbers, moves in square numbers such as 11-15 for a step and
+ * 15x24 or 15x24x31 for jumps, and a result, one of 1-0 (black wins), 0-1 (white wins), 2-0, 0-2, 1/2-1/2 or *.
+ * Comments in braces or after a semicolon are skipped. A game starts from the position of its FEN tag, or else from
+ * the start position, and every move is checked against CheckersLogic as it is read; a jump may also be written with
+ * only its first and last squares. The parser is hand-written and works byte by byte through one fixed buffer, and
+ * the positions and move list are reused from game to game, so the memory used does not depend on the size of the
+ * file. The file is read as Latin-1.
+ * Usage: PdnReader file
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class PdnReader implements Closeable {
+    private static final String USAGE = "Usage: PdnReader file";
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final int MAX_TOKEN = 64;
+    private static final int END = -1;
+    private static final String[] RESULTS = {"1-0", "0-1", "2-0", "0-2", "1/2-1/2", "*"};
+    private static final long INITIAL_WHITE = new CheckersLogic().getPieces(Player.WHITE);
+    private static final long INITIAL_BLACK = new CheckersLogic().getPieces(Player.BLACK);
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final byte[] token = new byte[MAX_TOKEN];
+    private final int[] squares = new int[MAX_TOKEN];
+    private final StringBuilder text = new StringBuilder();
+    private final Map<String, String> tags = new LinkedHashMap<>();
+    private final CheckersLogic start = new CheckersLogic();
+    private final CheckersLogic position = new CheckersLogic();
+    private final MoveList moves = new MoveList();
+    private final CompoundMoveList chains = new CompoundMoveList();
+    private int tokenLength;
+    private boolean positionSet;
+    private String result;
+    private long games;
+
+    /**
+     * Constructs a reader over a blocking channel
+     * @param channel the channel to read from; closed with the reader
+     */
+    public PdnReader(ReadableByteChannel channel) {
+        this.channel = channel;
+        buffer.flip();
+    }
+
+    /**
+     * Opens a reader over a file
+     * @param file the file to read
+     * @return the reader
+     * @throws IOException if the file cannot be opened
+     */
+    public static PdnReader open(Path file) throws IOException {
+        return new PdnReader(FileChannel.open(file, StandardOpenOption.READ));
+    }
+
+    /**
+     * Returns the next byte without consuming it
+     * @return the byte, or END at the end of the channel
+     * @throws IOException if the channel fails
+     */
+    private int peek() throws IOException {
+        if (!buffer.hasRemaining()) {
+            buffer.clear();
+            int read;
+            do {
+                read = channel.read(buffer);
+            } while (read == 0);
+            buffer.flip();
+            if (read < 0) return END;
+        }
+        return buffer.get(buffer.position()) & 0xFF;
+    }
+
+    /**
+     * Consumes the next byte
+     * @return the byte, or END at the end of the channel
+     * @throws IOException if the channel fails
+     */
+    private int read() throws IOException {
+        int c = peek();
+        if (c != END) buffer.get();
+        return c;
+    }
+
+    private static boolean isSpace(int c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+    }
+
+    /**
+     * Skips white space and comments
+     * @return the next byte, not consumed, or END
+     * @throws IOException if the channel fails
+     */
+    private int skipSpace() throws IOException {
+        while (true) {
+            int c = peek();
+            if (isSpace(c)) {
+                read();
+            } else if (c == '{') {
+                do {
+                    c = read();
+                } while (c != '}' && c != END);
+            } else if (c == ';') {
+                do {
+                    c = read();
+                } while (c != '\n' && c != END);
+            } else {
+                return c;
+            }
+        }
+    }
+
+    /**
+     * Reads the next game
+     * @return true - a game was read; false - the channel holds no more games
+     * @throws IOException if the channel fails
+     * @throws IllegalArgumentException if the game is malformed or one of its moves is illegal
+     */
+    public boolean nextGame() throws IOException {
+        tags.clear();
+        moves.clear();
+        positionSet = false;
+        result = null;
+        boolean started = false;
+        while (result == null) {
+            int c = skipSpace();
+            if (c == END) {
+                if (!started) return false;
+                break;
+            }
+            // Tags after moves belong to the next game, whose result was left out
+            if (c == '[' && positionSet) break;
+            started = true;
+            if (c == '[') {
+                readTag();
+            } else {
+                readToken();
+                readMoveText();
+            }
+        }
+        if (!positionSet) setStartPosition();
+        if (result == null) result = "*";
+        games++;
+        checkResult();
+        return true;
+    }
+
+    /**
+     * Reads a tag pair
+     * @throws IOException if the channel fails
+     */
+    private void readTag() throws IOException {
+        read();
+        skipSpace();
+        text.setLength(0);
+        for (int c = peek(); c != END && !isSpace(c) && c != '"' && c != ']'; c = peek()) {
+            text.append((char) read());
+        }
+        String name = text.toString();
+        if (name.isEmpty() || skipSpace() != '"') throw malformed("tag " + name);
+        read();
+        text.setLength(0);
+        for (int c = read(); c != '"'; c = read()) {
+            if (c == '\\') c = read();
+            if (c == END) throw malformed("tag " + name);
+            text.append((char) c);
+        }
+        if (skipSpace() != ']') throw malformed("tag " + name);
+        read();
+        tags.put(name, text.toString());
+    }
+
+    /**
+     * Reads the bytes of one move-text token
+     * @throws IOException if the channel fails
+     */
+    private void readToken() throws IOException {
+        tokenLength = 0;
+        for (int c = peek(); c != END && !isSpace(c) && c != '{' && c != ';' && c != '['; c = peek()) {
+            if (tokenLength == MAX_TOKEN) throw malformed("token longer than " + MAX_TOKEN + " characters");
+            token[tokenLength++] = (byte) read();
+        }
+        if (tokenLength == 0) throw malformed("character " + (char) read());
+    }
+
+    private boolean tokenEquals(String value) {
+        if (tokenLength != value.length()) return false;
+        for (int i = 0; i < tokenLength; ++i) {
+            if (token[i] != value.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Handles a move-text token: a result, a move number, or a move, which may be preceded by its number
+     * @throws IOException if the channel fails
+     */
+    private void readMoveText() throws IOException {
+        for (String termination : RESULTS) {
+            if (tokenEquals(termination)) {
+                result = termination;
+                return;
+            }
+        }
+        int i = 0;
+        while (i < tokenLength && token[i] >= '0' && token[i] <= '9') {
+            ++i;
+        }
+        if (i < tokenLength && token[i] == '.') {
+            while (i < tokenLength && token[i] == '.') {
+                ++i;
+            }
+            if (i == tokenLength) return;
+        } else {
+            i = 0;
+        }
+        playMove(i);
+    }
+
+    /**
+     * Parses the square numbers of a move and plays it
+     * @param offset index of the move in the token
+     */
+    private void playMove(int offset) {
+        if (!positionSet) setStartPosition();
+        int count = 0;
+        boolean capture = false;
+        int number = -1;
+        for (int i = offset; i <= tokenLength; ++i) {
+            int c = i < tokenLength ? token[i] : '-';
+            if (c >= '0' && c <= '9') {
+                number = (number < 0 ? 0 : number * 10) + c - '0';
+                if (number > 32) throw illegalMove();
+            } else if ((c == '-' || c == 'x' || c == ':') && number > 0) {
+                squares[count++] = Board.fromSquareNumber(number);
+                capture |= c != '-';
+                number = -1;
+            } else {
+                throw illegalMove();
+            }
+        }
+        if (count < 2) throw illegalMove();
+        for (int i = 0; i + 1 < count; ++i) {
+            if (!playHop(squares[i], squares[i + 1]) && !(capture && playChain(squares[i], squares[i + 1])))
+                throw illegalMove();
+        }
+    }
+
+    /**
+     * Plays the legal hop between two squares
+     * @param from the square moved from
+     * @param to the square moved to
+     * @return true - the hop was played; false - it is not legal
+     */
+    private boolean playHop(int from, int to) {
+        for (int i = 0; i < position.getMoveCount(); ++i) {
+            int move = position.getPackedMove(i);
+            if (PackedMove.from(move) == from && PackedMove.to(move) == to) {
+                position.makeMove(move);
+                moves.add(move);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Plays the rest of a turn written with only its first and last squares
+     * @param from the square the chain of jumps starts from
+     * @param to the square the turn ends on
+     * @return true - the chain was played; false - no chain of the turn leads from one square to the other
+     */
+    private boolean playChain(int from, int to) {
+        position.getCompoundMoves(chains);
+        for (int i = 0; i < chains.size(); ++i) {
+            int last = chains.getHopCount(i) - 1;
+            if (PackedMove.from(chains.getHop(i, 0)) == from && PackedMove.to(chains.getHop(i, last)) == to) {
+                for (int hop = 0; hop <= last; ++hop) {
+                    position.makeMove(chains.getHop(i, hop));
+                    moves.add(chains.getHop(i, hop));
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sets up the start position from the FEN tag, or the initial position without one
+     */
+    private void setStartPosition() {
+        String fen = tags.get("FEN");
+        if (fen == null) {
+            start.setPosition(INITIAL_WHITE, INITIAL_BLACK, Player.BLACK);
+        } else {
+            CheckersLogic parsed;
+            try {
+                parsed = CheckersLogic.parseFen(fen);
+            } catch (IllegalArgumentException e) {
+                throw malformed("FEN " + fen);
+            }
+            start.setPosition(parsed.getPieces(Player.WHITE), parsed.getPieces(Player.BLACK),
+                    parsed.getCurrentPlayer());
+        }
+        position.setPosition(start.getPieces(Player.WHITE), start.getPieces(Player.BLACK), start.getCurrentPlayer());
+        positionSet = true;
+    }
+
+    /**
+     * Checks that a decisive result names the winner of a finished game
+     */
+    private void checkResult() {
+        if (!position.isGameOver()) return;
+        Player winner = position.getCurrentPlayer().opponent();
+        boolean blackWins = result.equals("1-0") || result.equals("2-0");
+        boolean whiteWins = result.equals("0-1") || result.equals("0-2");
+        if ((blackWins && winner != Player.BLACK) || (whiteWins && winner != Player.WHITE))
+            throw malformed("result " + result + " of a game " + winner.name() + " won");
+    }
+
+    private IllegalArgumentException illegalMove() {
+        return malformed("illegal move " + new String(token, 0, tokenLength, StandardCharsets.ISO_8859_1));
+    }
+
+    private IllegalArgumentException malformed(String what) {
+        return new IllegalArgumentException("game " + (games + 1) + ": " + what);
+    }
+
+    /**
+     * Returns the tag pairs of the last game read, in file order
+     * @return unmodifiable view of the tags, overwritten by the next game
+     */
+    public Map<String, String> getTags() {
+        return Collections.unmodifiableMap(tags);
+    }
+
+    /**
+     * Returns the position the last game read started from
+     * @return the start position, reused by the next game
+     */
+    public CheckersLogic getStartPosition() {
+        return start;
+    }
+
+    /**
+     * Returns the position after the moves of the last game read. Its moves can be taken back with unmakeMove.
+     * @return the final position, reused by the next game
+     */
+    public CheckersLogic getPosition() {
+        return position;
+    }
+
+    /**
+     * Returns the hops of the last game read, as packed moves
+     * @return list of moves, reused by the next game
+     */
+    public MoveList getMoves() {
+        return moves;
+    }
+
+    /**
+     * Returns the result of the last game read
+     * @return the result token, or * if the game had none
+     */
+    public String getResult() {
+        return result;
+    }
+
+    /**
+     * Returns the number of games read so far
+     * @return game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Closes the channel
+     * @throws IOException if the channel fails to close
+     */
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    /**
+     * Reads and validates every game of a file from the command line
+     * @param args the file
+     */
+    public static void main(String[] args) {
+        Path file;
+        try {
+            file = Path.of(args[0]);
+        } catch (RuntimeException e) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        long start = System.nanoTime();
+        long hops = 0;
+        try (PdnReader reader = open(file)) {
+            while (reader.nextGame()) {
+                hops += reader.getMoves().size();
+            }
+            long elapsedNanos = Math.max(1, System.nanoTime() - start);
+            System.out.printf("%d games, %d moves, %d ms, %.0f games/sec%n", reader.getGames(), hops,
+                    elapsedNanos / 1_000_000, reader.getGames() * 1e9 / elapsedNanos);
+        } catch (IOException e) {
+            System.err.println("Cannot read the games: " + e.getMessage());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Invalid game file: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package rybchynskyi.checkersgui.core;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Writes games in Portable Draughts Notation (PDN), as read by PdnReader, to a channel. Each game is written as its
+ * tag pairs, a FEN tag if it does not start from the start position, and its moves numbered by black's turns, with
+ * the hops of a chain of jumps joined into one move such as 15x24x31. The Result tag and the closing result are
+ * derived from the final position: 1-0 if black has won, 0-1 if white has won, and * if the game is not over. The
+ * moves are checked against CheckersLogic before anything is written. Text goes through one fixed buffer straight
+ * into bytes, so writing does not depend on the number of games and allocates nothing per move.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class PdnWriter implements Closeable {
+    private static final int BUFFER_BYTES = 1 << 16;
+    private static final int LINE_WIDTH = 80;
+    private static final long INITIAL_HASH = new CheckersLogic().getHash();
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_BYTES);
+    private final StringBuilder token = new StringBuilder();
+    private final CheckersLogic position = new CheckersLogic();
+    private int column;
+    private long games;
+
+    /**
+     * Constructs a writer over a channel
+     * @param channel the channel to write to; closed with the writer
+     */
+    public PdnWriter(WritableByteChannel channel) {
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a writer that creates or replaces a file
+     * @param file the file to write
+     * @return the writer
+     * @throws IOException if the file cannot be opened
+     */
+    public static PdnWriter open(Path file) throws IOException {
+        return new PdnWriter(FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING));
+    }
+
+    /**
+     * Writes one game
+     * @param tags tag pairs to write first, in iteration order; FEN and Result tags among them are ignored, since they
+     *             are derived from the game
+     * @param start the position the game starts from; it is not modified
+     * @param moves the hops of the game, as packed moves
+     * @throws IOException if the channel fails
+     * @throws IllegalArgumentException if a move is illegal
+     */
+    public void writeGame(Map<String, String> tags, CheckersLogic start, MoveList moves) throws IOException {
+        position.setPosition(start.getPieces(Player.WHITE), start.getPieces(Player.BLACK), start.getCurrentPlayer());
+        for (int i = 0; i < moves.size(); ++i) {
+            int move = moves.get(i);
+            if (!position.isMoveValid(PackedMove.toMove(move)))
+                throw new IllegalArgumentException("game " + (games + 1) + ": illegal move "
+                        + PackedMove.toMove(move).toNotation());
+            position.makeMove(move);
+        }
+        String result = resultOf(position);
+
+        for (Map.Entry<String, String> tag : tags.entrySet()) {
+            if (!tag.getKey().equals("FEN") && !tag.getKey().equals("Result")) writeTag(tag.getKey(), tag.getValue());
+        }
+        if (start.getHash() != INITIAL_HASH) writeTag("FEN", start.getFen());
+        writeTag("Result", result);
+        newLine();
+
+        while (position.getUndoCount() > 0) {
+            position.unmakeMove();
+        }
+        int number = 1;
+        Player previousMover = null;
+        for (int i = 0; i < moves.size(); ++i) {
+            int move = moves.get(i);
+            Player mover = position.getCurrentPlayer();
+            token.setLength(0);
+            // Black's turns carry the move number, as does a game white begins
+            if (mover != previousMover && mover == Player.BLACK) {
+                token.append(number++).append(". ");
+            } else if (previousMover == null) {
+                token.append(number++).append("... ");
+            }
+            appendHop(move, mover == previousMover && continuesChain(moves, i));
+            position.makeMove(move);
+            writeToken();
+            previousMover = mover;
+        }
+        token.setLength(0);
+        token.append(result);
+        writeToken();
+        newLine();
+        newLine();
+        games++;
+    }
+
+    /**
+     * Checks whether a hop continues the chain of jumps of the hop before it, in the same turn
+     * @param moves the hops
+     * @param i index of the hop, at least 1
+     * @return true - the hop is a jump of the piece that just jumped; false - otherwise
+     */
+    private boolean continuesChain(MoveList moves, int i) {
+        int previous = moves.get(i - 1);
+        return position.isJumpContinuation() && PackedMove.to(previous) == PackedMove.from(moves.get(i));
+    }
+
+    /**
+     * Appends a hop to the token, either as a move of its own or as the next square of a chain
+     * @param move the packed hop
+     * @param chained whether the hop continues the chain of the token before it
+     */
+    private void appendHop(int move, boolean chained) {
+        char separator = PackedMove.isCapture(move) ? 'x' : '-';
+        if (!chained) token.append(Board.toSquareNumber(PackedMove.from(move)));
+        token.append(separator).append(Board.toSquareNumber(PackedMove.to(move)));
+    }
+
+    /**
+     * Returns the result of a position
+     * @param position the final position of a game
+     * @return 1-0, 0-1 or *
+     */
+    private static String resultOf(CheckersLogic position) {
+        if (!position.isGameOver()) return "*";
+        return position.getCurrentPlayer() == Player.WHITE ? "1-0" : "0-1";
+    }
+
+    /**
+     * Writes a tag pair on a line of its own
+     * @param name the tag name
+     * @param value the tag value, escaped as needed
+     * @throws IOException if the channel fails
+     */
+    private void writeTag(String name, String value) throws IOException {
+        put('[');
+        put(name);
+        put(' ');
+        put('"');
+        for (int i = 0; i < value.length(); ++i) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') put('\\');
+            put(c);
+        }
+        put('"');
+        put(']');
+        newLine();
+    }
+
+    /**
+     * Writes the token, on a new line if it would not fit on the current one. A move continuing a chain is glued to
+     * the token before it.
+     * @throws IOException if the channel fails
+     */
+    private void writeToken() throws IOException {
+        boolean chained = token.charAt(0) == 'x';
+        if (!chained && column > 0) {
+            if (column + 1 + token.length() > LINE_WIDTH) {
+                newLine();
+            } else {
+                put(' ');
+            }
+        }
+        put(token);
+    }
+
+    private void put(CharSequence text) throws IOException {
+        for (int i = 0; i < text.length(); ++i) {
+            put(text.charAt(i));
+        }
+    }
+
+    /**
+     * Writes one character as a Latin-1 byte; other characters are written as ?
+     * @param c the character
+     * @throws IOException if the channel fails
+     */
+    private void put(char c) throws IOException {
+        if (!buffer.hasRemaining()) drain();
+        buffer.put((byte) (c <= 0xFF ? c : '?'));
+        column++;
+    }
+
+    private void newLine() throws IOException {
+        if (!buffer.hasRemaining()) drain();
+        buffer.put((byte) '\n');
+        column = 0;
+    }
+
+    /**
+     * Writes the buffered bytes to the channel
+     * @throws IOException if the channel fails
+     */
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Writes out any buffered text
+     * @throws IOException if the channel fails
+     */
+    public void flush() throws IOException {
+        drain();
+    }
+
+    /**
+     * Returns the number of games written so far
+     * @return game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Flushes the buffered text and closes the channel
+     * @throws IOException if the channel fails
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+}
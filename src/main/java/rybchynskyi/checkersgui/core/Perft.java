@@ -0,0 +1,84 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts the leaf positions of the move tree to a given depth. Each ply is one call to makeMove, so every hop of a
+ * multi-jump counts as a ply, exactly as the moves are played through CheckersLogic. Positions with no moves before
+ * the last ply contribute no leaves. Used to check the move generator for correctness and speed.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class Perft {
+    private static final int MAX_MOVES = 32;
+
+    private final CheckersLogic position;
+    private int[][] moveStack = new int[0][];
+
+    /**
+     * Constructs the counter for a position
+     * @param position the position to count from; modified during a count and restored afterwards
+     */
+    public Perft(CheckersLogic position) {
+        this.position = position;
+    }
+
+    private void ensureDepth(int depth) {
+        if (moveStack.length >= depth) return;
+        moveStack = new int[depth][MAX_MOVES];
+    }
+
+    /**
+     * Counts the leaves of the move tree
+     * @param depth number of plies
+     * @return number of leaf positions
+     * @throws IllegalArgumentException if the depth is negative
+     */
+    public long perft(int depth) {
+        if (depth < 0) throw new IllegalArgumentException();
+        ensureDepth(depth);
+        return count(depth, 0);
+    }
+
+    /**
+     * Counts the leaves below each root move
+     * @param depth number of plies, including the root move
+     * @return leaf count of each root move, in generation order
+     * @throws IllegalArgumentException if the depth is less than 1
+     */
+    public Map<Move, Long> divide(int depth) {
+        if (depth < 1) throw new IllegalArgumentException();
+        ensureDepth(depth);
+        Map<Move, Long> counts = new LinkedHashMap<>();
+        int moveCount = position.getMoveCount();
+        int[] moves = moveStack[0];
+        for (int i = 0; i < moveCount; ++i) {
+            moves[i] = position.getPackedMove(i);
+        }
+        for (int i = 0; i < moveCount; ++i) {
+            position.makeMove(moves[i]);
+            counts.put(PackedMove.toMove(moves[i]), count(depth - 1, 1));
+            position.unmakeMove();
+        }
+        return counts;
+    }
+
+    private long count(int depth, int ply) {
+        if (depth == 0) return 1;
+        int moveCount = position.getMoveCount();
+        if (depth == 1) return moveCount;
+
+        int[] moves = moveStack[ply];
+        for (int i = 0; i < moveCount; ++i) {
+            moves[i] = position.getPackedMove(i);
+        }
+        long leaves = 0;
+        for (int i = 0; i < moveCount; ++i) {
+            position.makeMove(moves[i]);
+            leaves += count(depth - 1, ply + 1);
+            position.unmakeMove();
+        }
+        return leaves;
+    }
+}
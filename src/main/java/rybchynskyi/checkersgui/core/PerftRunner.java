@@ -0,0 +1,71 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.Map;
+
+/**
+ * Command-line entrypoint for the perft counter. Prints the leaf count of every depth up to the requested one together
+ * with the generator speed, or, in divide mode, the leaf count below each root move.
+ * Usage: PerftRunner depth [--fen B:W30,31,32:B1,2,3] [--divide]
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class PerftRunner {
+    private static final String USAGE = "Usage: PerftRunner depth [--fen position] [--divide]";
+
+    private static void printDepths(Perft perft, int maxDepth) {
+        System.out.printf("%5s %16s %10s %14s%n", "depth", "nodes", "ms", "nodes/sec");
+        for (int depth = 1; depth <= maxDepth; ++depth) {
+            long start = System.nanoTime();
+            long nodes = perft.perft(depth);
+            long elapsedNanos = Math.max(1, System.nanoTime() - start);
+            System.out.printf("%5d %16d %10d %14d%n", depth, nodes, elapsedNanos / 1_000_000,
+                    nodes * 1_000_000_000L / elapsedNanos);
+        }
+    }
+
+    private static void printDivide(Perft perft, int depth) {
+        long start = System.nanoTime();
+        long total = 0;
+        for (Map.Entry<Move, Long> entry : perft.divide(depth).entrySet()) {
+            System.out.println(entry.getKey().toNotation() + ": " + entry.getValue());
+            total += entry.getValue();
+        }
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        System.out.println("total: " + total);
+        System.out.printf("%d ms, %d nodes/sec%n", elapsedNanos / 1_000_000, total * 1_000_000_000L / elapsedNanos);
+    }
+
+    /**
+     * Runs perft from the command line
+     * @param args the depth, optionally followed by --fen and a position and by --divide
+     */
+    public static void main(String[] args) {
+        int depth;
+        CheckersLogic position = new CheckersLogic();
+        boolean divide = false;
+        try {
+            depth = Integer.parseInt(args[0]);
+            for (int i = 1; i < args.length; ++i) {
+                if (args[i].equals("--divide")) {
+                    divide = true;
+                } else if (args[i].equals("--fen")) {
+                    position = CheckersLogic.parseFen(args[++i]);
+                } else {
+                    throw new IllegalArgumentException();
+                }
+            }
+        } catch (RuntimeException e) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        System.out.print(position.getBoardString());
+        System.out.println(position.getFen());
+        Perft perft = new Perft(position);
+        if (divide) {
+            printDivide(perft, depth);
+        } else {
+            printDepths(perft, depth);
+        }
+    }
+}
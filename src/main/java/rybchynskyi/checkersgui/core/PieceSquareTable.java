@@ -0,0 +1,52 @@
+package rybchynskyi.checkersgui.core;
+
+/**
+ * The value of a piece of each player on each square. A board with a table attached keeps the sum of the values of
+ * each player's pieces and updates it whenever a piece is placed, moved or removed, so an evaluation made of
+ * per-square terms costs a lookup instead of a scan of the board.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public final class PieceSquareTable {
+    private static final int SQUARES = 64;
+
+    final int[][] values;
+
+    /**
+     * Constructs a table from the values of both players
+     * @param whiteValues value of a white piece on each square index, row * 8 + col
+     * @param blackValues value of a black piece on each square index, row * 8 + col
+     * @throws IllegalArgumentException if a table does not have 64 values
+     */
+    public PieceSquareTable(int[] whiteValues, int[] blackValues) {
+        if (whiteValues.length != SQUARES || blackValues.length != SQUARES) throw new IllegalArgumentException();
+        values = new int[Player.values().length][];
+        values[Player.WHITE.ordinal()] = whiteValues.clone();
+        values[Player.BLACK.ordinal()] = blackValues.clone();
+    }
+
+    /**
+     * Returns the value of a piece on a square
+     * @param player the owner of the piece
+     * @param square square index from 0 to 63
+     * @return the value
+     */
+    public int value(Player player, int square) {
+        return values[player.ordinal()][square];
+    }
+
+    /**
+     * Sums the values of a set of pieces
+     * @param pieces mask of the pieces
+     * @param player the owner of the pieces
+     * @return total value
+     */
+    public int sum(long pieces, Player player) {
+        int[] playerValues = values[player.ordinal()];
+        int total = 0;
+        for (long rest = pieces; rest != 0; rest &= rest - 1) {
+            total += playerValues[Long.numberOfTrailingZeros(rest)];
+        }
+        return total;
+    }
+}
@@ -3,7 +3,7 @@ package rybchynskyi.checkersgui.core;
 /**
  * Represents the white and black players of the checkers game and gives them a String symbol for debugging purposes.
  * @author Danylo Rybchynskyi
- * @version 2024-04-26
+ * @version 2026-10-17
  */
 public enum Player {
     /**
@@ -21,6 +21,14 @@ public enum Player {
         this.symbol = symbol;
     }
 
+    /**
+     * Returns the other player
+     * @return the opponent of this player
+     */
+    public Player opponent() {
+        return this == WHITE ? BLACK : WHITE;
+    }
+
     /**
      * The ASCII symbol representing this player
      * @return ASCII symbol
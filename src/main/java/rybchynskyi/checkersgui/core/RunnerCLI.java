@@ -2,12 +2,26 @@ package rybchynskyi.checkersgui.core;
 
 import rybchynskyi.checkersgui.ui.CheckersTextConsole;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 /**
- * The main class that is the entrypoint of the program. It handles all of the runner logic.
+ * The main class that is the entrypoint of the program. It handles all of the runner logic. Without arguments it plays
+ * an interactive game on the console; with --simulate it plays games headless and writes one record per game.
+ * Usage: RunnerCLI [--simulate games [--depth d] [--opening plies] [--seed s] [--format text|csv|json] [--out file]]
  * @author Danylo Rybchynskyi
- * @version 2024-04-26
+ * @version 2026-10-17
  */
 public class RunnerCLI {
+    private static final String USAGE = "Usage: RunnerCLI [--simulate games [--depth d] [--opening plies] [--seed s]"
+            + " [--format text|csv|json] [--out file]]";
+    private static final int OUTPUT_BUFFER = 1 << 16;
+
     private CheckersLogic game;
     private CheckersTextConsole ui;
     private CheckersComputerPlayer npc;
@@ -82,6 +96,7 @@ public class RunnerCLI {
 
     private void createNPC() {
         npc = new CheckersComputerPlayer(game);
+        npc.setPondering(true);
     }
 
     /**
@@ -106,16 +121,83 @@ public class RunnerCLI {
                 move = getMove();
             }
             game.move(move);
+            // Let the computer think while the user types a move
+            if (npcOpponent && game.getCurrentPlayer() != Player.WHITE) npc.ponder(game);
         }
         ui.printWin(game.getNextPlayerString());
     }
 
+    /**
+     * Runs a headless simulation from the command line. The records go to the output file, or to standard output, and
+     * the totals to standard error so they never mix with the records.
+     * @param args the command-line arguments, starting with --simulate
+     */
+    private static void simulate(String[] args) {
+        long games;
+        int depth = 0;
+        int openingPlies = 0;
+        long seed = 1;
+        Simulation.Format format = Simulation.Format.TEXT;
+        Path file = null;
+        Simulation simulation;
+        try {
+            games = Long.parseLong(args[1]);
+            for (int i = 2; i < args.length; ++i) {
+                switch (args[i]) {
+                    case "--depth" -> depth = Integer.parseInt(args[++i]);
+                    case "--opening" -> openingPlies = Integer.parseInt(args[++i]);
+                    case "--seed" -> seed = Long.parseLong(args[++i]);
+                    case "--format" -> format = Simulation.Format.valueOf(args[++i].toUpperCase());
+                    case "--out" -> file = Path.of(args[++i]);
+                    default -> throw new IllegalArgumentException();
+                }
+            }
+            if (games < 0) throw new IllegalArgumentException();
+            simulation = new Simulation(depth, seed);
+            simulation.setOpening(openingPlies);
+        } catch (RuntimeException e) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            if (file == null) {
+                // Simulation.run flushes the writer; closing it would close System.out for the rest of the process
+                Writer out = new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8),
+                        OUTPUT_BUFFER);
+                simulation.run(games, format, out);
+            } else {
+                try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                    simulation.run(games, format, out);
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Cannot write the records: " + e.getMessage());
+            return;
+        }
+        long elapsedNanos = Math.max(1, System.nanoTime() - start);
+        System.err.printf("%d games, black won %d, %.1f plies and %.1f captures per game, %d ms, %.0f games/sec%n",
+                simulation.getGames(), simulation.getBlackWins(),
+                (double) simulation.getTotalPlies() / Math.max(1, simulation.getGames()),
+                (double) simulation.getTotalCaptures() / Math.max(1, simulation.getGames()), elapsedNanos / 1_000_000,
+                simulation.getGames() * 1e9 / elapsedNanos);
+    }
+
     /**
      * A JavaFX application will ignore this main method. This method is deprecated for the terminal-only version of the
-     * program.
-     * @param args command-line arguments. Unused.
+     * program, except for the headless simulation.
+     * @param args command-line arguments: none for an interactive game, or --simulate and its options
      */
     public static void main(String[] args) {
+        if (args.length > 0) {
+            if (args[0].equals("--simulate")) {
+                simulate(args);
+            } else {
+                System.err.println(USAGE);
+            }
+            return;
+        }
         RunnerCLI main = new RunnerCLI();
         main.run();
     }
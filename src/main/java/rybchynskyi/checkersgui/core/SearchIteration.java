@@ -0,0 +1,16 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.List;
+
+/**
+ * The result of one completed iteration of an iterative-deepening search
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ * @param depth the depth searched
+ * @param score the score of the position for the player to move
+ * @param principalVariation the expected line of play, starting with the best move
+ * @param elapsedMillis time since the start of the whole search
+ * @param nodes positions visited by this iteration
+ */
+public record SearchIteration(int depth, int score, List<Move> principalVariation, long elapsedMillis, long nodes) {
+}
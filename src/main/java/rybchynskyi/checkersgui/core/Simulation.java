@@ -0,0 +1,171 @@
+package rybchynskyi.checkersgui.core;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Random;
+
+/**
+ * Plays games with no user interface and writes one summary record per game: its number, its length in hops, the
+ * winner, the number of capture hops and the time it took. Both sides are played either by random legal moves or by
+ * a computer player searching to a fixed depth after a number of random opening hops. The game object is rewound with
+ * unmakeMove between games rather than rebuilt, and every record is assembled in one reused buffer before it goes to
+ * the writer, so a random-move simulation allocates next to nothing per game and the writer's buffering decides how
+ * often the output is touched.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class Simulation {
+    private static final int TABLE_MB = 4;
+    /**
+     * The layout of the per-game records
+     */
+    public enum Format {
+        /**
+         * One readable line per game
+         */
+        TEXT,
+        /**
+         * A header line, then one comma-separated line per game
+         */
+        CSV,
+        /**
+         * One JSON object per line
+         */
+        JSON
+    }
+
+    private final CheckersLogic game = new CheckersLogic();
+    private final CheckersComputerPlayer player;
+    private final Random random;
+    private final StringBuilder record = new StringBuilder();
+    private int openingPlies;
+    private long games;
+    private long blackWins;
+    private long totalPlies;
+    private long totalCaptures;
+
+    /**
+     * Constructs a simulation
+     * @param depth the search depth of both sides, or 0 to play random moves
+     * @param seed seed of the random moves
+     * @throws IllegalArgumentException if the depth is negative or too deep
+     */
+    public Simulation(int depth, long seed) {
+        if (depth < 0 || depth > AlphaBetaSearch.MAX_DEPTH) throw new IllegalArgumentException();
+        player = depth == 0 ? null : new CheckersComputerPlayer(game, depth, new StandardEvaluator(),
+                new TranspositionTable(TABLE_MB));
+        random = new Random(seed);
+    }
+
+    /**
+     * Sets the number of random hops played at the start of every game before a searching player takes over
+     * @param openingPlies number of random hops
+     * @throws IllegalArgumentException if openingPlies is negative
+     */
+    public void setOpening(int openingPlies) {
+        if (openingPlies < 0) throw new IllegalArgumentException();
+        this.openingPlies = openingPlies;
+    }
+
+    /**
+     * Plays a number of games and writes their records. The writer is flushed, not closed.
+     * @param count the number of games
+     * @param format the record layout
+     * @param out where the records go
+     * @throws IOException if the writer fails
+     */
+    public void run(long count, Format format, Writer out) throws IOException {
+        if (format == Format.CSV) out.write("game,plies,winner,captures,micros\n");
+        for (long i = 0; i < count; ++i) {
+            long start = System.nanoTime();
+            int captures = playGame();
+            long micros = (System.nanoTime() - start) / 1_000;
+            Player winner = game.getCurrentPlayer().opponent();
+            int plies = game.getUndoCount();
+            games++;
+            if (winner == Player.BLACK) blackWins++;
+            totalPlies += plies;
+            totalCaptures += captures;
+            writeRecord(format, plies, winner, captures, micros);
+            out.append(record);
+            while (game.getUndoCount() > 0) {
+                game.unmakeMove();
+            }
+        }
+        out.flush();
+    }
+
+    /**
+     * Plays one game from the start position to the end
+     * @return the number of capture hops
+     */
+    private int playGame() {
+        int captures = 0;
+        while (!game.isGameOver()) {
+            int move;
+            if (player == null || game.getUndoCount() < openingPlies) {
+                move = game.getPackedMove(random.nextInt(game.getMoveCount()));
+            } else {
+                move = PackedMove.of(player.calculateMove());
+            }
+            if (PackedMove.isCapture(move)) captures++;
+            game.makeMove(move);
+        }
+        return captures;
+    }
+
+    /**
+     * Fills the record buffer with the record of the game just played
+     * @param format the record layout
+     * @param plies length of the game in hops
+     * @param winner the player who won
+     * @param captures number of capture hops
+     * @param micros time the game took in microseconds
+     */
+    private void writeRecord(Format format, int plies, Player winner, int captures, long micros) {
+        record.setLength(0);
+        switch (format) {
+            case TEXT -> record.append("game ").append(games).append(": ").append(plies).append(" plies, ")
+                    .append(winner.name()).append(" wins, ").append(captures).append(" captures, ").append(micros)
+                    .append(" us");
+            case CSV -> record.append(games).append(',').append(plies).append(',').append(winner.name()).append(',')
+                    .append(captures).append(',').append(micros);
+            case JSON -> record.append("{\"game\":").append(games).append(",\"plies\":").append(plies)
+                    .append(",\"winner\":\"").append(winner.name()).append("\",\"captures\":").append(captures)
+                    .append(",\"micros\":").append(micros).append('}');
+        }
+        record.append('\n');
+    }
+
+    /**
+     * Returns the number of games played
+     * @return game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the number of games black won
+     * @return black wins
+     */
+    public long getBlackWins() {
+        return blackWins;
+    }
+
+    /**
+     * Returns the number of hops of all games played
+     * @return total plies
+     */
+    public long getTotalPlies() {
+        return totalPlies;
+    }
+
+    /**
+     * Returns the number of capture hops of all games played
+     * @return total captures
+     */
+    public long getTotalCaptures() {
+        return totalCaptures;
+    }
+}
@@ -0,0 +1,153 @@
+package rybchynskyi.checkersgui.core;
+
+/**
+ * Evaluates a position by material, advancement of the pieces, pieces guarding the back rank, and mobility. Each term
+ * is the difference between the player to move and the opponent multiplied by a weight. Material, advancement and
+ * back rank only depend on the square of each piece, so they are folded into one PieceSquareTable whose sums the board
+ * keeps up to date as moves are made and taken back; evaluate attaches the table to a position the first time it sees
+ * it, and afterwards only adds the mobility term, computed from the bitboards. With assertions enabled (-ea) every
+ * evaluation is cross-checked against a full recompute of all the terms.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class StandardEvaluator implements Evaluator {
+    private static final int ROWS = 8;
+    private static final long COLUMN_A = 0x0101010101010101L;
+    private static final long COLUMN_H = COLUMN_A << 7;
+    private static final long WHITE_BACK_ROW = 0xFFL;
+    private static final long BLACK_BACK_ROW = 0xFFL << 56;
+
+    private final int materialWeight;
+    private final int advancementWeight;
+    private final int backRankWeight;
+    private final int mobilityWeight;
+    private final PieceSquareTable table;
+
+    /**
+     * Constructs the evaluator with the given term weights
+     * @param materialWeight score of each piece
+     * @param advancementWeight score of each row a piece has advanced
+     * @param backRankWeight score of each piece left on the player's own back row
+     * @param mobilityWeight score of each empty square a piece could step to
+     */
+    public StandardEvaluator(int materialWeight, int advancementWeight, int backRankWeight, int mobilityWeight) {
+        this.materialWeight = materialWeight;
+        this.advancementWeight = advancementWeight;
+        this.backRankWeight = backRankWeight;
+        this.mobilityWeight = mobilityWeight;
+        table = buildTable();
+    }
+
+    /**
+     * Builds the piece-square table of the material, advancement and back rank terms
+     * @return the table
+     */
+    private PieceSquareTable buildTable() {
+        int[] white = new int[ROWS * ROWS];
+        int[] black = new int[ROWS * ROWS];
+        for (int square = 0; square < white.length; ++square) {
+            long mask = 1L << square;
+            white[square] = materialWeight + advancementWeight * advancement(mask, Player.WHITE)
+                    + backRankWeight * Long.bitCount(mask & WHITE_BACK_ROW);
+            black[square] = materialWeight + advancementWeight * advancement(mask, Player.BLACK)
+                    + backRankWeight * Long.bitCount(mask & BLACK_BACK_ROW);
+        }
+        return new PieceSquareTable(white, black);
+    }
+
+    /**
+     * Returns the piece-square table this evaluator keeps positions' running sums with
+     * @return the table
+     */
+    public PieceSquareTable getPieceSquareTable() {
+        return table;
+    }
+
+    /**
+     * Constructs the evaluator with the default weights
+     */
+    public StandardEvaluator() {
+        this(100, 3, 10, 2);
+    }
+
+    /**
+     * Sums how many rows each piece of a player has advanced from the player's back row
+     * @param pieces mask of the player's pieces
+     * @param player the owner of the pieces
+     * @return total advancement
+     */
+    private static int advancement(long pieces, Player player) {
+        int total = 0;
+        for (int row = 0; row < ROWS; ++row) {
+            int count = Long.bitCount(pieces & (0xFFL << (row * ROWS)));
+            total += count * (player == Player.WHITE ? row : ROWS - 1 - row);
+        }
+        return total;
+    }
+
+    /**
+     * Counts the empty squares the pieces of a player could step to
+     * @param pieces mask of the player's pieces
+     * @param empty mask of the empty squares
+     * @param player the owner of the pieces
+     * @return number of single-step destinations
+     */
+    private static int mobility(long pieces, long empty, Player player) {
+        long targets;
+        if (player == Player.WHITE) {
+            targets = ((pieces & ~COLUMN_A) << 7) | ((pieces & ~COLUMN_H) << 9);
+        } else {
+            targets = ((pieces & ~COLUMN_A) >>> 9) | ((pieces & ~COLUMN_H) >>> 7);
+        }
+        return Long.bitCount(targets & empty);
+    }
+
+    /**
+     * Scores one player's pieces
+     * @param pieces mask of the player's pieces
+     * @param empty mask of the empty squares
+     * @param player the owner of the pieces
+     * @return the player's score
+     */
+    private int score(long pieces, long empty, Player player) {
+        long backRow = player == Player.WHITE ? WHITE_BACK_ROW : BLACK_BACK_ROW;
+        return materialWeight * Long.bitCount(pieces)
+                + advancementWeight * advancement(pieces, player)
+                + backRankWeight * Long.bitCount(pieces & backRow)
+                + mobilityWeight * mobility(pieces, empty, player);
+    }
+
+    /**
+     * Evaluates a position by recomputing every term from the bitboards. Used to cross-check the running sums.
+     * @param position the position to evaluate
+     * @return score for the player to move
+     */
+    public int evaluateFully(CheckersLogic position) {
+        Player player = position.getCurrentPlayer();
+        Player opponent = player.opponent();
+        long own = position.getPieces(player);
+        long enemy = position.getPieces(opponent);
+        long empty = Board.DARK_SQUARES & ~(own | enemy);
+        return score(own, empty, player) - score(enemy, empty, opponent);
+    }
+
+    /**
+     * Evaluates a position from its running piece-square sums and its mobility. Attaches this evaluator's table to the
+     * position if another table, or none, is attached.
+     * @param position the position to evaluate
+     * @return score for the player to move
+     */
+    @Override
+    public int evaluate(CheckersLogic position) {
+        if (position.getPieceSquareTable() != table) position.setPieceSquareTable(table);
+        Player player = position.getCurrentPlayer();
+        Player opponent = player.opponent();
+        long own = position.getPieces(player);
+        long enemy = position.getPieces(opponent);
+        long empty = Board.DARK_SQUARES & ~(own | enemy);
+        int score = position.getPieceSquareScore(player) - position.getPieceSquareScore(opponent)
+                + mobilityWeight * (mobility(own, empty, player) - mobility(enemy, empty, opponent));
+        assert score == evaluateFully(position) : "incremental evaluation drifted in " + position.getFen();
+        return score;
+    }
+}
@@ -0,0 +1,123 @@
+package rybchynskyi.checkersgui.core;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * An endgame tablebase read from the files written by TablebaseGenerator. Each file holds one material balance, one
+ * byte per position: first every position with white to move, then every position with black to move, in the order of
+ * TablebaseIndex. A value is 0 if the position is not known, and otherwise 1 + 2 * distance + (1 if the player to move
+ * wins), where the distance is the number of turns until the losing player is left without a move. The files are
+ * mapped read-only, so a probe is an index calculation and a single byte read with no allocation, and the tablebase
+ * can be shared by any number of search threads.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class Tablebase {
+    /**
+     * Value of a position the tablebase does not cover
+     */
+    public static final int UNKNOWN = 0;
+
+    private final MappedByteBuffer[][] slices;
+    private final int maxPieces;
+
+    /**
+     * Maps every tablebase file found in a directory
+     * @param directory the directory the generator wrote to
+     * @throws IOException if a file cannot be read
+     * @throws IllegalArgumentException if the directory holds no tablebase file, or a file has the wrong size
+     */
+    public Tablebase(Path directory) throws IOException {
+        slices = new MappedByteBuffer[TablebaseIndex.MAX_PIECES + 1][TablebaseIndex.MAX_PIECES + 1];
+        int covered = 0;
+        for (int pieces = 1; pieces <= TablebaseIndex.MAX_PIECES; ++pieces) {
+            boolean complete = true;
+            for (int white = 0; white <= pieces; ++white) {
+                Path file = fileOf(directory, white, pieces - white);
+                if (!Files.isRegularFile(file)) {
+                    complete = false;
+                    continue;
+                }
+                slices[white][pieces - white] = map(file, 2L * TablebaseIndex.size(white, pieces - white));
+            }
+            if (complete && covered == pieces - 1) covered = pieces;
+        }
+        if (covered == 0) throw new IllegalArgumentException();
+        maxPieces = covered;
+    }
+
+    private static MappedByteBuffer map(Path file, long expectedSize) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() != expectedSize) throw new IllegalArgumentException();
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, expectedSize);
+        }
+    }
+
+    /**
+     * Returns the path of the file of a material balance
+     * @param directory the tablebase directory
+     * @param whiteCount number of white pieces
+     * @param blackCount number of black pieces
+     * @return path of the file
+     */
+    static Path fileOf(Path directory, int whiteCount, int blackCount) {
+        return directory.resolve("tb_w" + whiteCount + "_b" + blackCount + ".bin");
+    }
+
+    /**
+     * Encodes a solved position
+     * @param win true if the player to move wins
+     * @param distance number of turns until the game ends
+     * @return the stored value
+     */
+    static byte encode(boolean win, int distance) {
+        return (byte) (1 + 2 * distance + (win ? 1 : 0));
+    }
+
+    /**
+     * Checks whether a known value is a win for the player to move
+     * @param value value returned by probe, other than UNKNOWN
+     * @return true - the player to move wins; false - the player to move loses
+     */
+    public static boolean isWin(int value) {
+        return ((value - 1) & 1) != 0;
+    }
+
+    /**
+     * Returns the number of turns until the game ends with best play
+     * @param value value returned by probe, other than UNKNOWN
+     * @return distance in turns
+     */
+    public static int distance(int value) {
+        return (value - 1) >>> 1;
+    }
+
+    /**
+     * Looks up a position
+     * @param position the position to look up
+     * @return the value of the position, or UNKNOWN if it has more pieces than the tablebase covers
+     */
+    public int probe(CheckersLogic position) {
+        long white = position.getPieces(Player.WHITE);
+        long black = position.getPieces(Player.BLACK);
+        int whiteCount = Long.bitCount(white);
+        int blackCount = Long.bitCount(black);
+        if (whiteCount + blackCount > maxPieces) return UNKNOWN;
+        MappedByteBuffer slice = slices[whiteCount][blackCount];
+        int offset = position.getCurrentPlayer().ordinal() * TablebaseIndex.size(whiteCount, blackCount);
+        return slice.get(offset + TablebaseIndex.index(white, black)) & 0xFF;
+    }
+
+    /**
+     * Returns the largest number of pieces for which every material balance is in the tablebase
+     * @return number of pieces covered
+     */
+    public int getMaxPieces() {
+        return maxPieces;
+    }
+}
@@ -0,0 +1,259 @@
+package rybchynskyi.checkersgui.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Solves every position with up to a given number of pieces by retrograde analysis and writes the results as tablebase
+ * files. The material balances are solved from the fewest pieces up, so a capture always leads into a slice that is
+ * already solved. Within a slice the solver works in passes: pass 0 marks the positions without a move as lost, and
+ * pass d marks a position as won in d if one of its turns leads to a position lost in at most d - 1, or as lost in d
+ * if every turn leads to a position won in at most d - 1. Men only move forward, so no position can repeat and every
+ * position is solved after a finite number of passes; a slice is done once none of its positions is left unknown. A
+ * pass only reads values from earlier passes, so its positions are split between threads without any locking and the
+ * result does not depend on the thread count.
+ * Usage: TablebaseGenerator pieces directory [threads]
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class TablebaseGenerator {
+    private static final String USAGE = "Usage: TablebaseGenerator pieces directory [threads]";
+    private static final Player[] PLAYERS = Player.values();
+    private static final int MAX_DISTANCE = 126;
+
+    private final int maxPieces;
+    private final int threads;
+    private final byte[][][] values;
+    private long positions;
+    private int passes;
+
+    /**
+     * Constructs a generator
+     * @param maxPieces the largest number of pieces to solve, from 1 to 8
+     * @param threads the number of threads solving each pass
+     * @throws IllegalArgumentException if either argument is out of range
+     */
+    public TablebaseGenerator(int maxPieces, int threads) {
+        if (maxPieces < 1 || maxPieces > TablebaseIndex.MAX_PIECES || threads < 1)
+            throw new IllegalArgumentException();
+        this.maxPieces = maxPieces;
+        this.threads = threads;
+        values = new byte[maxPieces + 1][maxPieces + 1][];
+    }
+
+    /**
+     * Solves every material balance
+     */
+    public void generate() {
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "checkers-tablebase");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int pieces = 1; pieces <= maxPieces; ++pieces) {
+                for (int white = 0; white <= pieces; ++white) {
+                    solve(pool, white, pieces - white);
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Solves the positions of one material balance, for both players to move
+     * @param pool the threads to solve with
+     * @param whiteCount number of white pieces
+     * @param blackCount number of black pieces
+     */
+    private void solve(ExecutorService pool, int whiteCount, int blackCount) {
+        int size = TablebaseIndex.size(whiteCount, blackCount);
+        values[whiteCount][blackCount] = new byte[2 * size];
+        positions += 2L * size;
+        int chunk = (2 * size + threads - 1) / threads;
+        int unsolved = 2 * size;
+        for (int pass = 0; unsolved > 0; ++pass) {
+            if (pass > MAX_DISTANCE) throw new IllegalStateException();
+            List<Future<Integer>> futures = new ArrayList<>(threads);
+            for (int i = 0; i < threads; ++i) {
+                int from = Math.min(2 * size, i * chunk);
+                int to = Math.min(2 * size, from + chunk);
+                futures.add(pool.submit(new PassTask(whiteCount, blackCount, pass, from, to)));
+            }
+            for (Future<Integer> future : futures) {
+                unsolved -= waitFor(future);
+            }
+            passes = Math.max(passes, pass + 1);
+        }
+    }
+
+    /**
+     * Waits for a pass task to finish
+     * @param future the task
+     * @return the number of positions it solved
+     */
+    private static int waitFor(Future<Integer> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Returns the value of a position after solving
+     * @param position a position with at most maxPieces pieces
+     * @return the value, encoded as in Tablebase
+     */
+    int getValue(CheckersLogic position) {
+        long white = position.getPieces(Player.WHITE);
+        long black = position.getPieces(Player.BLACK);
+        byte[] slice = values[Long.bitCount(white)][Long.bitCount(black)];
+        int size = slice.length / 2;
+        return slice[position.getCurrentPlayer().ordinal() * size + TablebaseIndex.index(white, black)] & 0xFF;
+    }
+
+    /**
+     * Writes one file per material balance
+     * @param directory the directory to write to; it is created if missing
+     * @throws IOException if a file cannot be written
+     * @throws IllegalStateException if generate has not been called
+     */
+    public void write(Path directory) throws IOException {
+        if (values[maxPieces][0] == null) throw new IllegalStateException();
+        Files.createDirectories(directory);
+        for (int pieces = 1; pieces <= maxPieces; ++pieces) {
+            for (int white = 0; white <= pieces; ++white) {
+                Files.write(Tablebase.fileOf(directory, white, pieces - white), values[white][pieces - white]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of positions solved
+     * @return positions in all material balances, counting both players to move
+     */
+    public long getPositions() {
+        return positions;
+    }
+
+    /**
+     * Returns the number of passes of the longest material balance
+     * @return pass count
+     */
+    public int getPasses() {
+        return passes;
+    }
+
+    /**
+     * One thread's share of a pass: a range of positions of the slice, solved with the thread's own game object
+     */
+    private class PassTask implements Callable<Integer> {
+        private final int whiteCount;
+        private final int blackCount;
+        private final int pass;
+        private final int from;
+        private final int to;
+        private final CheckersLogic position = new CheckersLogic(0, 0, Player.BLACK);
+        private final CompoundMoveList moves = new CompoundMoveList();
+
+        PassTask(int whiteCount, int blackCount, int pass, int from, int to) {
+            this.whiteCount = whiteCount;
+            this.blackCount = blackCount;
+            this.pass = pass;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Integer call() {
+            byte[] slice = values[whiteCount][blackCount];
+            int size = slice.length / 2;
+            int solved = 0;
+            for (int i = from; i < to; ++i) {
+                if (slice[i] != Tablebase.UNKNOWN) continue;
+                int index = i % size;
+                long white = TablebaseIndex.white(index, whiteCount, blackCount);
+                long black = TablebaseIndex.black(index, white, blackCount);
+                position.setPosition(white, black, PLAYERS[i / size]);
+                byte value = pass == 0 ? solveTerminal() : solve();
+                if (value != Tablebase.UNKNOWN) {
+                    slice[i] = value;
+                    solved++;
+                }
+            }
+            return solved;
+        }
+
+        /**
+         * Solves the position if the player to move has no move
+         * @return the value, or UNKNOWN
+         */
+        private byte solveTerminal() {
+            return position.isGameOver() ? Tablebase.encode(false, 0) : Tablebase.UNKNOWN;
+        }
+
+        /**
+         * Solves the position if its turns lead to positions solved in earlier passes
+         * @return the value, or UNKNOWN
+         */
+        private byte solve() {
+            position.getCompoundMoves(moves);
+            boolean allWon = true;
+            for (int i = 0; i < moves.size(); ++i) {
+                position.makeCompoundMove(moves, i);
+                int child = getValue(position);
+                position.unmakeCompoundMove();
+                if (child == Tablebase.UNKNOWN || Tablebase.distance(child) >= pass) {
+                    allWon = false;
+                } else if (!Tablebase.isWin(child)) {
+                    return Tablebase.encode(true, pass);
+                }
+            }
+            return allWon ? Tablebase.encode(false, pass) : Tablebase.UNKNOWN;
+        }
+    }
+
+    /**
+     * Generates a tablebase from the command line
+     * @param args the number of pieces, the output directory and optionally the number of threads
+     */
+    public static void main(String[] args) {
+        int pieces;
+        Path directory;
+        int threadCount = Runtime.getRuntime().availableProcessors();
+        try {
+            pieces = Integer.parseInt(args[0]);
+            directory = Path.of(args[1]);
+            if (args.length > 2) threadCount = Integer.parseInt(args[2]);
+        } catch (RuntimeException e) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        TablebaseGenerator generator = new TablebaseGenerator(pieces, threadCount);
+        long start = System.nanoTime();
+        generator.generate();
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        try {
+            generator.write(directory);
+        } catch (IOException e) {
+            System.err.println("Cannot write the tablebase: " + e.getMessage());
+            return;
+        }
+        System.out.printf("%d positions, %d passes, %d threads, %d ms%n", generator.getPositions(),
+                generator.getPasses(), threadCount, elapsedMillis);
+    }
+}
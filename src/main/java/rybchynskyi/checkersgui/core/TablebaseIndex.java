@@ -0,0 +1,135 @@
+package rybchynskyi.checkersgui.core;
+
+/**
+ * Perfect indexing of the positions of one material balance. The white pieces are ranked as a combination of the 32
+ * dark squares, and the black pieces as a combination of the dark squares the white pieces leave free, using the
+ * combinatorial number system; the index of a position is the white rank times the number of black placements plus
+ * the black rank. Every placement of the given pieces therefore has exactly one index below size, and every index
+ * decodes back to one placement.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+final class TablebaseIndex {
+    /**
+     * The number of dark squares, on which all the pieces stand
+     */
+    static final int DARK_SQUARES = 32;
+    /**
+     * The most pieces a slice may hold while its size still fits an int
+     */
+    static final int MAX_PIECES = 8;
+
+    private static final int[][] BINOMIAL = new int[DARK_SQUARES + 1][MAX_PIECES + 1];
+    private static final int[] DARK_TO_SQUARE = new int[DARK_SQUARES];
+    private static final int[] SQUARE_TO_DARK = new int[64];
+
+    static {
+        for (int n = 0; n <= DARK_SQUARES; ++n) {
+            BINOMIAL[n][0] = 1;
+            for (int k = 1; k <= Math.min(n, MAX_PIECES); ++k) {
+                BINOMIAL[n][k] = BINOMIAL[n - 1][k - 1] + BINOMIAL[n - 1][k];
+            }
+        }
+        int dark = 0;
+        for (int square = 0; square < SQUARE_TO_DARK.length; ++square) {
+            if ((Board.DARK_SQUARES >>> square & 1) == 0) continue;
+            DARK_TO_SQUARE[dark] = square;
+            SQUARE_TO_DARK[square] = dark++;
+        }
+    }
+
+    private TablebaseIndex() {
+    }
+
+    /**
+     * Returns the number of positions with the given pieces, for one player to move
+     * @param whiteCount number of white pieces
+     * @param blackCount number of black pieces
+     * @return number of indices of the slice
+     */
+    static int size(int whiteCount, int blackCount) {
+        return BINOMIAL[DARK_SQUARES][whiteCount] * BINOMIAL[DARK_SQUARES - whiteCount][blackCount];
+    }
+
+    /**
+     * Computes the index of a position within the slice of its material balance
+     * @param white mask of the white pieces, on dark squares only
+     * @param black mask of the black pieces, on dark squares only
+     * @return index from 0 to size(bitCount(white), bitCount(black)) - 1
+     */
+    static int index(long white, long black) {
+        int whiteRank = 0;
+        int whiteDark = 0;
+        int k = 1;
+        for (long rest = white; rest != 0; rest &= rest - 1) {
+            int dark = SQUARE_TO_DARK[Long.numberOfTrailingZeros(rest)];
+            whiteRank += BINOMIAL[dark][k++];
+            whiteDark |= 1 << dark;
+        }
+        int blackRank = 0;
+        k = 1;
+        for (long rest = black; rest != 0; rest &= rest - 1) {
+            int dark = SQUARE_TO_DARK[Long.numberOfTrailingZeros(rest)];
+            int free = dark - Integer.bitCount(whiteDark & ((1 << dark) - 1));
+            blackRank += BINOMIAL[free][k++];
+        }
+        int whiteCount = Long.bitCount(white);
+        return whiteRank * BINOMIAL[DARK_SQUARES - whiteCount][Long.bitCount(black)] + blackRank;
+    }
+
+    /**
+     * Decodes the white pieces of an index
+     * @param index index within the slice
+     * @param whiteCount number of white pieces
+     * @param blackCount number of black pieces
+     * @return mask of the white pieces
+     */
+    static long white(int index, int whiteCount, int blackCount) {
+        int rank = index / BINOMIAL[DARK_SQUARES - whiteCount][blackCount];
+        long mask = 0;
+        int dark = DARK_SQUARES;
+        for (int k = whiteCount; k > 0; --k) {
+            do {
+                --dark;
+            } while (BINOMIAL[dark][k] > rank);
+            rank -= BINOMIAL[dark][k];
+            mask |= 1L << DARK_TO_SQUARE[dark];
+        }
+        return mask;
+    }
+
+    /**
+     * Decodes the black pieces of an index
+     * @param index index within the slice
+     * @param white mask of the white pieces, as returned by white
+     * @param blackCount number of black pieces
+     * @return mask of the black pieces
+     */
+    static long black(int index, long white, int blackCount) {
+        int rank = index % BINOMIAL[DARK_SQUARES - Long.bitCount(white)][blackCount];
+        long mask = 0;
+        int free = DARK_SQUARES - Long.bitCount(white);
+        for (int k = blackCount; k > 0; --k) {
+            do {
+                --free;
+            } while (BINOMIAL[free][k] > rank);
+            rank -= BINOMIAL[free][k];
+            mask |= 1L << DARK_TO_SQUARE[freeToDark(free, white)];
+        }
+        return mask;
+    }
+
+    /**
+     * Finds the dark square that is the given one among the squares not taken by white
+     * @param free position among the free dark squares
+     * @param white mask of the white pieces
+     * @return dark square index
+     */
+    private static int freeToDark(int free, long white) {
+        for (int dark = 0; dark < DARK_SQUARES; ++dark) {
+            if ((white & 1L << DARK_TO_SQUARE[dark]) != 0) continue;
+            if (free-- == 0) return dark;
+        }
+        throw new IllegalArgumentException();
+    }
+}
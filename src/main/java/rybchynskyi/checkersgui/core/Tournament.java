@@ -0,0 +1,193 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Plays a match of self-play games between two computer player setups without any user interface. Games are played in
+ * pairs: both games of a pair start from the same opening, with the colours swapped, so neither setup profits from
+ * the colour or the opening it was dealt. An opening is the start position, optionally followed by a number of random
+ * hops drawn from a seeded generator, so a tournament is reproducible. Each game runs on one thread of a worker pool
+ * with its own game and players, so games do not share any mutable state and the pool scales with the cores.
+ * Usage: Tournament games firstDepth secondDepth [threads] [openingPlies] [seed]
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class Tournament {
+    private static final String USAGE =
+            "Usage: Tournament games firstDepth secondDepth [threads] [openingPlies] [seed]";
+    private static final int TABLE_MB = 4;
+    private static final int FIRST_WINS = 0;
+    private static final int FIRST_MOVES = 1;
+    private static final int FIRST_NANOS = 2;
+    private static final int SECOND_MOVES = 3;
+    private static final int SECOND_NANOS = 4;
+    private static final int GAME_STATS = 5;
+
+    private final Function<CheckersLogic, CheckersComputerPlayer> first;
+    private final Function<CheckersLogic, CheckersComputerPlayer> second;
+    private final int threads;
+    private int openingPlies;
+    private long seed;
+
+    /**
+     * Constructs a tournament. The factories are called from the worker threads, once per game, and must return a new
+     * player bound to the given game each time.
+     * @param first creates the first player for a game
+     * @param second creates the second player for a game
+     * @param threads the number of games played at once
+     * @throws IllegalArgumentException if threads is less than 1
+     */
+    public Tournament(Function<CheckersLogic, CheckersComputerPlayer> first,
+                      Function<CheckersLogic, CheckersComputerPlayer> second, int threads) {
+        if (threads < 1) throw new IllegalArgumentException();
+        this.first = first;
+        this.second = second;
+        this.threads = threads;
+    }
+
+    /**
+     * Sets the randomized openings. Pair p of the tournament starts with openingPlies random hops drawn from a
+     * generator seeded with seed + p.
+     * @param openingPlies number of random hops before the players take over, or 0 to start from the start position
+     * @param seed seed of the first pair
+     * @throws IllegalArgumentException if openingPlies is negative
+     */
+    public void setOpening(int openingPlies, long seed) {
+        if (openingPlies < 0) throw new IllegalArgumentException();
+        this.openingPlies = openingPlies;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays the tournament
+     * @param games the number of games; the first player plays black in the even games and white in the odd ones
+     * @return the totals
+     * @throws IllegalArgumentException if games is less than 1
+     */
+    public TournamentResult play(int games) {
+        if (games < 1) throw new IllegalArgumentException();
+        ExecutorService pool = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "checkers-tournament");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long start = System.nanoTime();
+        try {
+            List<Future<long[]>> futures = new ArrayList<>(games);
+            for (int i = 0; i < games; ++i) {
+                int game = i;
+                futures.add(pool.submit(() -> playGame(game)));
+            }
+            long[] totals = new long[GAME_STATS];
+            for (Future<long[]> future : futures) {
+                long[] stats = waitFor(future);
+                for (int i = 0; i < GAME_STATS; ++i) {
+                    totals[i] += stats[i];
+                }
+            }
+            return new TournamentResult(games, (int) totals[FIRST_WINS], games - (int) totals[FIRST_WINS],
+                    System.nanoTime() - start, totals[FIRST_MOVES], totals[FIRST_NANOS], totals[SECOND_MOVES],
+                    totals[SECOND_NANOS]);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Plays one game of the tournament
+     * @param game index of the game
+     * @return the statistics of the game, indexed by FIRST_WINS, FIRST_MOVES, FIRST_NANOS, SECOND_MOVES and
+     *         SECOND_NANOS
+     */
+    private long[] playGame(int game) {
+        CheckersLogic logic = new CheckersLogic();
+        Random random = new Random(seed + game / 2);
+        for (int ply = 0; ply < openingPlies && !logic.isGameOver(); ++ply) {
+            logic.move(logic.getMove(random.nextInt(logic.getMoveCount())));
+        }
+        Player firstColour = game % 2 == 0 ? Player.BLACK : Player.WHITE;
+        CheckersComputerPlayer firstPlayer = first.apply(logic);
+        CheckersComputerPlayer secondPlayer = second.apply(logic);
+        long[] stats = new long[GAME_STATS];
+        while (!logic.isGameOver()) {
+            boolean firstToMove = logic.getCurrentPlayer() == firstColour;
+            long moveStart = System.nanoTime();
+            Move move = (firstToMove ? firstPlayer : secondPlayer).calculateMove();
+            long moveNanos = System.nanoTime() - moveStart;
+            stats[firstToMove ? FIRST_MOVES : SECOND_MOVES]++;
+            stats[firstToMove ? FIRST_NANOS : SECOND_NANOS] += moveNanos;
+            logic.move(move);
+        }
+        // The player left without a move loses
+        if (logic.getCurrentPlayer() != firstColour) stats[FIRST_WINS] = 1;
+        return stats;
+    }
+
+    /**
+     * Waits for a game to finish
+     * @param future the game
+     * @return its statistics
+     */
+    private static long[] waitFor(Future<long[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Creates a factory of players searching to a fixed depth with the standard evaluation
+     * @param depth the search depth
+     * @return the factory
+     */
+    private static Function<CheckersLogic, CheckersComputerPlayer> playerOfDepth(int depth) {
+        return logic -> new CheckersComputerPlayer(logic, depth, new StandardEvaluator(),
+                new TranspositionTable(TABLE_MB));
+    }
+
+    /**
+     * Plays a tournament between two search depths from the command line
+     * @param args the number of games, the depths of both players, and optionally the number of threads, the number of
+     *             random opening hops and the seed
+     */
+    public static void main(String[] args) {
+        int games;
+        int firstDepth;
+        int secondDepth;
+        Tournament tournament;
+        try {
+            games = Integer.parseInt(args[0]);
+            firstDepth = Integer.parseInt(args[1]);
+            secondDepth = Integer.parseInt(args[2]);
+            int threadCount = args.length > 3 ? Integer.parseInt(args[3]) : Runtime.getRuntime().availableProcessors();
+            int openingPlies = args.length > 4 ? Integer.parseInt(args[4]) : 0;
+            long openingSeed = args.length > 5 ? Long.parseLong(args[5]) : 1;
+            if (games < 1 || firstDepth < 1 || firstDepth > AlphaBetaSearch.MAX_DEPTH || secondDepth < 1
+                    || secondDepth > AlphaBetaSearch.MAX_DEPTH)
+                throw new IllegalArgumentException();
+            tournament = new Tournament(playerOfDepth(firstDepth), playerOfDepth(secondDepth), threadCount);
+            tournament.setOpening(openingPlies, openingSeed);
+        } catch (RuntimeException e) {
+            System.err.println(USAGE);
+            return;
+        }
+
+        TournamentResult result = tournament.play(games);
+        System.out.printf("depth %d vs depth %d: %d-%d (W-L, no draws are possible) in %d games%n", firstDepth,
+                secondDepth, result.firstWins(), result.secondWins(), result.games());
+        System.out.printf("%.2f games/sec, %d ms%n", result.gamesPerSecond(), result.elapsedNanos() / 1_000_000);
+        System.out.printf("average move: first %.1f us, second %.1f us%n", result.firstMoveMicros(),
+                result.secondMoveMicros());
+    }
+}
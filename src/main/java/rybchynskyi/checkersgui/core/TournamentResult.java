@@ -0,0 +1,43 @@
+package rybchynskyi.checkersgui.core;
+
+/**
+ * The totals of a tournament between two computer players. The rules rule out draws: men only move forward, so every
+ * game ends with one side out of moves and the other side the winner.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ * @param games the number of games played
+ * @param firstWins games won by the first player
+ * @param secondWins games won by the second player
+ * @param elapsedNanos wall-clock time of the whole tournament
+ * @param firstMoves moves calculated by the first player
+ * @param firstMoveNanos time the first player spent calculating its moves
+ * @param secondMoves moves calculated by the second player
+ * @param secondMoveNanos time the second player spent calculating its moves
+ */
+public record TournamentResult(int games, int firstWins, int secondWins, long elapsedNanos, long firstMoves,
+                               long firstMoveNanos, long secondMoves, long secondMoveNanos) {
+
+    /**
+     * Returns the number of games finished per second of wall-clock time
+     * @return games per second
+     */
+    public double gamesPerSecond() {
+        return games * 1e9 / Math.max(1, elapsedNanos);
+    }
+
+    /**
+     * Returns the average time the first player took to calculate a move
+     * @return latency in microseconds, or 0 if it made no move
+     */
+    public double firstMoveMicros() {
+        return firstMoves == 0 ? 0 : firstMoveNanos / 1e3 / firstMoves;
+    }
+
+    /**
+     * Returns the average time the second player took to calculate a move
+     * @return latency in microseconds, or 0 if it made no move
+     */
+    public double secondMoveMicros() {
+        return secondMoves == 0 ? 0 : secondMoveNanos / 1e3 / secondMoves;
+    }
+}
@@ -0,0 +1,233 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A fixed-size hash table of search results keyed by the Zobrist key of a position. Every entry is packed into two
+ * longs: the data word and the key XORed with the data word. A reader accepts an entry only if the two words XOR back to
+ * the probed key, so several search threads can share the table without locks: a torn or concurrent write simply looks
+ * like a miss. Replacement is depth-preferred, except that entries left over from an earlier search are always
+ * replaced.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+public class TranspositionTable {
+    /**
+     * The stored score is exact
+     */
+    public static final int BOUND_EXACT = 0;
+    /**
+     * The stored score is a lower bound (the search failed high)
+     */
+    public static final int BOUND_LOWER = 1;
+    /**
+     * The stored score is an upper bound (the search failed low)
+     */
+    public static final int BOUND_UPPER = 2;
+    /**
+     * Value returned by probe when the position is not in the table
+     */
+    public static final long MISS = 0;
+
+    private static final int ENTRY_BYTES = 2 * Long.BYTES;
+    static final int MOVE_BITS = 24;
+    private static final int SCORE_SHIFT = MOVE_BITS;
+    private static final int DEPTH_SHIFT = SCORE_SHIFT + 16;
+    private static final int BOUND_SHIFT = DEPTH_SHIFT + 8;
+    private static final long VALID_FLAG = 1L << (BOUND_SHIFT + 2);
+    private static final int GENERATION_SHIFT = 56;
+
+    private final long[] keys;
+    private final long[] data;
+    private final int indexMask;
+    private volatile int generation;
+
+    private final LongAdder probes = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    /**
+     * Constructs a table using at most the given amount of memory. The number of entries is rounded down to a power of
+     * two.
+     * @param sizeMb table size in megabytes
+     * @throws IllegalArgumentException if the size is smaller than 1 MB or larger than the table can address
+     */
+    public TranspositionTable(int sizeMb) {
+        if (sizeMb < 1 || sizeMb > 16384) throw new IllegalArgumentException();
+        long entries = Long.highestOneBit(((long) sizeMb << 20) / ENTRY_BYTES);
+        entries = Math.min(entries, 1 << 30);
+        keys = new long[(int) entries];
+        data = new long[(int) entries];
+        indexMask = (int) entries - 1;
+    }
+
+    private int index(long key) {
+        return (int) (key ^ (key >>> 32)) & indexMask;
+    }
+
+    private static int generationOf(long entry) {
+        return (int) (entry >>> GENERATION_SHIFT);
+    }
+
+    /**
+     * Looks up a position
+     * @param key Zobrist key of the position
+     * @return the packed entry, or MISS if the position is not stored
+     */
+    public long probe(long key) {
+        probes.increment();
+        int i = index(key);
+        long entry = data[i];
+        if ((entry & VALID_FLAG) == 0) return MISS;
+        if ((keys[i] ^ entry) != key) {
+            collisions.increment();
+            return MISS;
+        }
+        hits.increment();
+        return entry;
+    }
+
+    /**
+     * Stores a search result, unless the slot holds a deeper result for another position from the current search
+     * @param key Zobrist key of the position
+     * @param move the best move found, as a packed move
+     * @param score the score of the position
+     * @param depth the remaining depth the score was searched to
+     * @param bound BOUND_EXACT, BOUND_LOWER or BOUND_UPPER
+     */
+    public void store(long key, int move, int score, int depth, int bound) {
+        int i = index(key);
+        long old = data[i];
+        int currentGeneration = generation;
+        if ((old & VALID_FLAG) != 0 && generationOf(old) == currentGeneration && depth < depth(old)
+                && (keys[i] ^ old) != key)
+            return;
+
+        long entry = (move & ((1L << MOVE_BITS) - 1))
+                | ((score & 0xFFFFL) << SCORE_SHIFT)
+                | ((long) (depth & 0xFF) << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | VALID_FLAG
+                | ((long) currentGeneration << GENERATION_SHIFT);
+        keys[i] = key ^ entry;
+        data[i] = entry;
+    }
+
+    /**
+     * Marks the start of a new search. Entries from earlier searches stay usable but lose their replacement priority.
+     */
+    public void newSearch() {
+        generation = (generation + 1) & 0xFF;
+    }
+
+    /**
+     * Returns the generation of the current search
+     * @return generation from 0 to 255
+     */
+    int getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Removes every entry and resets the statistics
+     */
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(data, 0);
+        probes.reset();
+        hits.reset();
+        collisions.reset();
+    }
+
+    /**
+     * Returns the best move of a packed entry
+     * @param entry entry returned by probe
+     * @return packed move
+     */
+    public static int move(long entry) {
+        return (int) (entry & ((1L << MOVE_BITS) - 1));
+    }
+
+    /**
+     * Returns the score of a packed entry
+     * @param entry entry returned by probe
+     * @return score
+     */
+    public static int score(long entry) {
+        return (short) (entry >>> SCORE_SHIFT);
+    }
+
+    /**
+     * Returns the search depth of a packed entry
+     * @param entry entry returned by probe
+     * @return remaining depth
+     */
+    public static int depth(long entry) {
+        return (int) (entry >>> DEPTH_SHIFT) & 0xFF;
+    }
+
+    /**
+     * Returns the bound type of a packed entry
+     * @param entry entry returned by probe
+     * @return BOUND_EXACT, BOUND_LOWER or BOUND_UPPER
+     */
+    public static int bound(long entry) {
+        return (int) (entry >>> BOUND_SHIFT) & 0x3;
+    }
+
+    /**
+     * Returns the number of entries the table can hold
+     * @return table capacity
+     */
+    public int getCapacity() {
+        return data.length;
+    }
+
+    /**
+     * Returns the number of lookups since the table was created or cleared
+     * @return number of probes
+     */
+    public long getProbes() {
+        return probes.sum();
+    }
+
+    /**
+     * Returns the number of lookups that found their position
+     * @return number of hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the share of lookups that found their position
+     * @return hit rate from 0 to 1
+     */
+    public double getHitRate() {
+        long total = probes.sum();
+        return total == 0 ? 0 : (double) hits.sum() / total;
+    }
+
+    /**
+     * Returns the number of lookups that found a slot taken by a different position
+     * @return number of collisions
+     */
+    public long getCollisions() {
+        return collisions.sum();
+    }
+
+    /**
+     * Returns the share of slots holding an entry. Scans the whole table, so it is meant for reporting, not for use
+     * during a search.
+     * @return fill ratio from 0 to 1
+     */
+    public double getFillRatio() {
+        long used = 0;
+        for (long entry : data) {
+            if ((entry & VALID_FLAG) != 0)
+                used++;
+        }
+        return (double) used / data.length;
+    }
+}
@@ -0,0 +1,44 @@
+package rybchynskyi.checkersgui.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Holds the random keys used to hash checkers positions. A position key is the XOR of the key of every piece on the
+ * board, plus the side key when white is to move, so moving a piece only XORs two keys in and out. The keys come from a
+ * fixed seed, which keeps hashes stable between runs.
+ * @author Danylo Rybchynskyi
+ * @version 2026-10-17
+ */
+final class Zobrist {
+    private static final long SEED = 0x9E3779B97F4A7C15L;
+    private static final int SQUARES = 64;
+    private static final long[][] PIECE_KEYS = new long[Player.values().length][SQUARES];
+
+    /**
+     * Key XORed into a position hash when white is the player to move
+     */
+    static final long WHITE_TO_MOVE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (long[] playerKeys : PIECE_KEYS) {
+            for (int i = 0; i < SQUARES; ++i) {
+                playerKeys[i] = random.nextLong();
+            }
+        }
+        WHITE_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Returns the key of a player's piece standing on a square
+     * @param player the owner of the piece
+     * @param square square index from 0 to 63
+     * @return the piece key
+     */
+    static long piece(Player player, int square) {
+        return PIECE_KEYS[player.ordinal()][square];
+    }
+}
@@ -1,5 +1,6 @@
 package rybchynskyi.checkersgui.ui;
 
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.event.ActionEvent;
@@ -11,11 +12,21 @@ import javafx.scene.layout.GridPane;
 import javafx.stage.Stage;
 import rybchynskyi.checkersgui.core.*;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 /**
  * The main class of the JavaFX version of the Checkers application. As of 2024-05-05 houses the GUI logic, GUI input
- * processing, and other logic, for I have no experience with MVC.
+ * processing, and other logic, for I have no experience with MVC. The computer player never runs on the JavaFX
+ * application thread: its moves are calculated on a background thread from a snapshot of the game and handed back
+ * with Platform.runLater, so the window stays responsive while it thinks. A calculation is cancelled when a new game
+ * starts or the window closes, and a late result from a cancelled player is thrown away. While the user chooses a
+ * move, the computer ponders on the reply it expects. After the first full draw the board is redrawn incrementally:
+ * changes only schedule a render for the next pulse, which asks the game for the squares changed since the last
+ * render and updates just those buttons, however many moves were played in between.
  * @author Danylo Rybchynskyi
- * @version 2024-05-05
+ * @version 2026-10-17
  */
 public class CheckersGUI extends Application {
     private final double ROOT_PADDING = 12;
@@ -34,6 +45,8 @@ public class CheckersGUI extends Application {
 
     private final String CHOOSE_PIECE_STATUS = "Please choose a checker";
     private final String CHOOSE_DESTINATION_STATUS = "Please make a move";
+    private final String THINKING_STATUS = "The computer is thinking...";
+    private final String ENGINE_ERROR_STATUS = "The computer could not move: ";
 
     private final Alert CLIorGUIAlert = new Alert(Alert.AlertType.CONFIRMATION,
             "Would you like to play with the GUI?", ButtonType.YES, ButtonType.NO);
@@ -45,10 +58,24 @@ public class CheckersGUI extends Application {
 
     private final Label moveStatusLabel = new Label(CHOOSE_PIECE_STATUS);
     private final Label playerStatusLabel = new Label(PLAYER_BLACK_STATUS);
+    private final Button newGameButton = new Button("New game");
 
     private final CheckersLogic game = new CheckersLogic();
     private CheckersComputerPlayer computerPlayer = null;
     private Coordinate selectedChecker = null;
+    private final ExecutorService engineExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "checkers-engine");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Future<?> pendingComputerMove = null;
+    private final AnimationTimer renderTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            stop();
+            renderChangedSquares();
+        }
+    };
 
     private void initButtonGridPane() {
         checkerButtonGridPane.setPadding(new Insets(BUTTON_PADDING));
@@ -82,6 +109,25 @@ public class CheckersGUI extends Application {
                 checkerButtons[i][j].setText(game.getSymbol(i, j));
             }
         }
+        game.takeChangedSquares();
+    }
+
+    /**
+     * Updates the buttons of the squares changed since the last render
+     */
+    private void renderChangedSquares() {
+        for (long changed = game.takeChangedSquares(); changed != 0; changed &= changed - 1) {
+            int id = Long.numberOfTrailingZeros(changed);
+            checkerButtons[rowFromId(id)][colFromId(id)].setText(game.getSymbol(rowFromId(id), colFromId(id)));
+        }
+    }
+
+    /**
+     * Schedules a render of the changed squares on the next pulse. Any number of requests before that pulse result
+     * in a single render.
+     */
+    private void requestRender() {
+        renderTimer.start();
     }
 
     private void initRoot() {
@@ -93,6 +139,8 @@ public class CheckersGUI extends Application {
         root.add(playerStatusLabel, 0, 0);
         root.add(checkerButtonGridPane, 0, 1);
         root.add(moveStatusLabel, 0, 2);
+        newGameButton.setOnAction(event -> startNewGame());
+        root.add(newGameButton, 0, 3);
     }
 
     private void checkGameOver() {
@@ -119,7 +167,7 @@ public class CheckersGUI extends Application {
     }
 
     private Coordinate coordinateFromId(int id) {
-        return new Coordinate(rowFromId(id), colFromId(id));
+        return Coordinate.of(rowFromId(id), colFromId(id));
     }
 
     private boolean isCheckerSelected() {
@@ -152,11 +200,102 @@ public class CheckersGUI extends Application {
         return game.getCurrentPlayer() == Player.WHITE;
     }
 
+    private boolean isComputerThinking() {
+        return pendingComputerMove != null;
+    }
+
+    /**
+     * Starts calculating the computer's move on the engine thread if it is the computer's turn. The engine works on a
+     * snapshot, so the game is only ever touched on the JavaFX application thread. A calculation that fails is
+     * reported in the status label instead of leaving the game waiting for it.
+     */
+    private void requestComputerMove() {
+        if (!isComputerOpponent() || !isComputerOpponentTurn() || game.isGameOver()) return;
+        CheckersComputerPlayer player = computerPlayer;
+        CheckersLogic snapshot = new CheckersLogic(game);
+        moveStatusLabel.setText(THINKING_STATUS);
+        pendingComputerMove = engineExecutor.submit(() -> {
+            try {
+                Move move = player.calculateMove(snapshot);
+                Platform.runLater(() -> applyComputerMove(player, move));
+            } catch (RuntimeException | Error e) {
+                Platform.runLater(() -> reportComputerFailure(player, e));
+            }
+        });
+    }
+
+    /**
+     * Reports a calculation that failed on the engine thread and stops waiting for it, unless the player that failed
+     * has since been replaced
+     * @param player the player whose calculation failed
+     * @param failure the exception or error it threw
+     */
+    private void reportComputerFailure(CheckersComputerPlayer player, Throwable failure) {
+        if (player != computerPlayer) return;
+        pendingComputerMove = null;
+        moveStatusLabel.setText(ENGINE_ERROR_STATUS + failure);
+    }
+
+    /**
+     * Plays a move calculated on the engine thread, unless the player that calculated it has since been replaced
+     * @param player the player that calculated the move
+     * @param move the calculated move, or null if the calculation was cancelled
+     */
+    private void applyComputerMove(CheckersComputerPlayer player, Move move) {
+        if (player != computerPlayer || move == null) return;
+        pendingComputerMove = null;
+        game.move(move);
+        requestRender();
+        checkGameOver();
+        setStatusLabelChoosePiece();
+        updatePlayerStatusLabel();
+        // After a jump the computer may have to keep jumping
+        if (isComputerOpponentTurn()) {
+            requestComputerMove();
+        } else {
+            computerPlayer.ponder(game);
+        }
+    }
+
+    private CheckersComputerPlayer createComputerPlayer() {
+        CheckersComputerPlayer player = new CheckersComputerPlayer(game);
+        player.setPondering(true);
+        return player;
+    }
+
+    /**
+     * Cancels the computer player, which is replaced or dropped afterwards, and the move it is calculating. The
+     * result, if it still arrives, is thrown away, and the player's pondering thread is released.
+     */
+    private void cancelComputerMove() {
+        if (computerPlayer != null) computerPlayer.cancel();
+        if (pendingComputerMove != null) pendingComputerMove.cancel(true);
+        pendingComputerMove = null;
+    }
+
+    /**
+     * Takes every move back and starts over, with a fresh computer player if the game is against the computer
+     */
+    private void startNewGame() {
+        boolean computerOpponent = isComputerOpponent();
+        cancelComputerMove();
+        while (game.getUndoCount() > 0) {
+            game.unmakeMove();
+        }
+        computerPlayer = computerOpponent ? createComputerPlayer() : null;
+        resetSelectedChecker();
+        requestRender();
+        setStatusLabelChoosePiece();
+        updatePlayerStatusLabel();
+        requestComputerMove();
+    }
+
     private void handleCheckerButtons(ActionEvent event) {
+        if (isComputerThinking()) return;
         int id = getButtonId(event);
         Coordinate currentSelection = coordinateFromId(id);
         if (isCheckerSelected()) {
-            Move move = new Move(selectedChecker, currentSelection);
+            Move move = Move.of(selectedChecker, currentSelection);
             resetSelectedChecker();
             try {
                 game.move(move);
@@ -164,18 +303,11 @@ public class CheckersGUI extends Application {
                 System.out.println("Illegal move!");
                 invalidMoveAlert.showAndWait();
             }
-            updateButtons();
+            requestRender();
             checkGameOver();
             setStatusLabelChoosePiece();
             updatePlayerStatusLabel();
-            while (isComputerOpponent() && isComputerOpponentTurn()) {
-                move = computerPlayer.calculateMove();
-                game.move(move);
-                updateButtons();
-                checkGameOver();
-                setStatusLabelChoosePiece();
-                updatePlayerStatusLabel();
-            }
+            requestComputerMove();
         } else {
             selectedChecker = currentSelection;
             setStatusLabelChooseDestination();
@@ -200,7 +332,7 @@ public class CheckersGUI extends Application {
         computerOrPlayerAlert.showAndWait();
         if (computerOrPlayerAlert.getResult().getText().equals("Computer")) {
             System.out.println(computerOrPlayerAlert.getResult().getText());
-            computerPlayer = new CheckersComputerPlayer(game);
+            computerPlayer = createComputerPlayer();
         }
         initCheckerButtons();
         updateButtons();
@@ -209,9 +341,19 @@ public class CheckersGUI extends Application {
 
         stage.setTitle("Checkers");
         stage.setScene(new Scene(root));
+        stage.setOnCloseRequest(event -> cancelComputerMove());
         stage.show();
     }
 
+    /**
+     * Cancels the computer's calculation and stops the engine thread when the application exits
+     */
+    @Override
+    public void stop() {
+        cancelComputerMove();
+        engineExecutor.shutdownNow();
+    }
+
     /**
      * Used as a fallback to launch the JavaFX application
      * @param args the command-line arguments (currently unused)
@@ -0,0 +1,90 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AlphaBetaSearchTest {
+
+    private final Evaluator evaluator = new StandardEvaluator();
+
+    /**
+     * Plain minimax without pruning over whole turns, used as the reference for the alpha-beta scores. Past the nominal
+     * depth it keeps playing captures like the quiescence search; these short searches never reach MAX_QUIESCENCE_PLY.
+     */
+    private int minimax(CheckersLogic position, int depth, int ply) {
+        if (position.getMoveCount() == 0) return -AlphaBetaSearch.WIN_SCORE + ply;
+        if (depth <= 0 && !position.hasCaptures()) return evaluator.evaluate(position);
+        CompoundMoveList moves = new CompoundMoveList();
+        position.getCompoundMoves(moves);
+        int best = Integer.MIN_VALUE;
+        for (int i = 0; i < moves.size(); ++i) {
+            position.makeCompoundMove(moves, i);
+            best = Math.max(best, -minimax(position, depth - 1, ply + 1));
+            position.unmakeCompoundMove();
+        }
+        return best;
+    }
+
+    @Test
+    void matchesMinimax() {
+        CheckersLogic game = new CheckersLogic();
+        for (String move : new String[] {"3a-4b", "6d-5c"})
+            game.move(Move.parseMove(move));
+        for (int depth = 1; depth <= 5; ++depth) {
+            int expected = minimax(new CheckersLogic(game), depth, 0);
+            assertEquals(expected, new AlphaBetaSearch(new CheckersLogic(game), evaluator, null).search(depth));
+            assertEquals(expected, new AlphaBetaSearch(new CheckersLogic(game), evaluator,
+                    new TranspositionTable(1)).search(depth));
+        }
+    }
+
+    @Test
+    void restoresPosition() {
+        CheckersLogic game = new CheckersLogic();
+        long hash = game.getHash();
+        AlphaBetaSearch search = new AlphaBetaSearch(game, evaluator, null);
+        search.search(4);
+        assertEquals(hash, game.getHash());
+        assertTrue(game.isMoveValid(search.getBestMove()));
+        assertTrue(search.getNodes() > 1);
+    }
+
+    @Test
+    void invalidDepth() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AlphaBetaSearch(new CheckersLogic(), evaluator, null).search(0));
+    }
+
+    @Test
+    void stoppedSearchKeepsPreviousResult() {
+        CheckersLogic game = new CheckersLogic();
+        AlphaBetaSearch search = new AlphaBetaSearch(game, evaluator, null);
+        int score = search.search(3);
+        Move move = search.getBestMove();
+        search.stop();
+        assertEquals(score, search.search(12));
+        assertTrue(search.isAborted());
+        assertEquals(move, search.getBestMove());
+        assertEquals(new CheckersLogic().getHash(), game.getHash());
+    }
+
+    @Test
+    void cutoffStatistics() {
+        AlphaBetaSearch search = new AlphaBetaSearch(new CheckersLogic(), evaluator, new TranspositionTable(1));
+        search.search(8);
+        assertTrue(search.getCutoffs() > 0);
+        assertTrue(search.getFirstMoveCutoffs() <= search.getCutoffs());
+        assertTrue(search.getFirstMoveCutoffRate() > 0.5);
+    }
+
+    @Test
+    void quiescenceResolvesExchange() {
+        // Several black steps walk into a white capture, so a depth 1 search stops in the middle of an exchange
+        CheckersLogic game = CheckersLogic.parseFen("B:W18,19:B9,10");
+        AlphaBetaSearch search = new AlphaBetaSearch(game, evaluator, null);
+        int score = search.search(1);
+        assertTrue(search.getQuiescenceNodes() > 0);
+        assertEquals(minimax(new CheckersLogic(game), 1, 0), score);
+    }
+}
@@ -0,0 +1,65 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchingGameListenerTest {
+
+    @Test
+    void deliversBufferedEventsInOneTask() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        List<String> delivered = new ArrayList<>();
+        CheckersLogic game = new CheckersLogic();
+        game.addListener(new BatchingGameListener(event -> delivered.add(event.toString()), tasks::add));
+
+        game.move(Move.parseMove("3a-4b"));
+        game.move(Move.parseMove("6d-5c"));
+        assertEquals(1, tasks.size());
+        assertTrue(delivered.isEmpty());
+
+        tasks.poll().run();
+        assertEquals(4, delivered.size());
+        assertTrue(delivered.get(0).startsWith("PIECE_MOVED BLACK"));
+        assertTrue(delivered.get(2).startsWith("PIECE_MOVED WHITE"));
+        assertTrue(tasks.isEmpty());
+    }
+
+    @Test
+    void eventsDuringDeliveryGoToNextTask() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        List<GameEvent.Type> delivered = new ArrayList<>();
+        CheckersLogic game = new CheckersLogic();
+        game.addListener(new BatchingGameListener(event -> {
+            delivered.add(event.getType());
+            if (delivered.size() == 1) game.unmakeMove();
+        }, tasks::add));
+
+        game.move(Move.parseMove("3a-4b"));
+        tasks.poll().run();
+        assertEquals(1, tasks.size());
+        tasks.poll().run();
+        assertEquals(List.of(GameEvent.Type.PIECE_MOVED, GameEvent.Type.TURN_CHANGED,
+                GameEvent.Type.MOVE_TAKEN_BACK, GameEvent.Type.TURN_CHANGED), delivered);
+    }
+
+    @Test
+    void growsPastInitialCapacity() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        List<Integer> delivered = new ArrayList<>();
+        CheckersLogic game = new CheckersLogic();
+        game.addListener(new BatchingGameListener(event -> delivered.add(event.getFrom()), tasks::add));
+        for (int i = 0; i < 100; ++i) {
+            game.move(Move.parseMove("3a-4b"));
+            game.unmakeMove();
+        }
+        tasks.poll().run();
+        assertEquals(400, delivered.size());
+        assertEquals(delivered.get(0), delivered.get(396));
+    }
+}
@@ -91,4 +91,59 @@ class BoardTest {
         assertEquals("X", toTest.getSymbol(7, 0));
         assertEquals("_", toTest.getSymbol(4, 4));
     }
-}
\ No newline at end of file
+
+    @Test
+    void pieceMasks() {
+        assertEquals(12, Long.bitCount(toTest.getPieces(Player.WHITE)));
+        assertEquals(12, Long.bitCount(toTest.getPieces(Player.BLACK)));
+        assertEquals(toTest.getPieces(Player.WHITE) | toTest.getPieces(Player.BLACK), toTest.getOccupied());
+        assertEquals(0, toTest.getOccupied() & ~Board.DARK_SQUARES);
+    }
+
+    @Test
+    void movePieceUpdatesMasks() {
+        toTest.movePiece(5, 0, 4, 1);
+        assertTrue(toTest.isOccupiedByPlayer(4, 1, Player.BLACK));
+        assertFalse(toTest.isOccupiedByPlayer(5, 0, Player.BLACK));
+        assertEquals(12, Long.bitCount(toTest.getPieces(Player.BLACK)));
+        assertEquals(24, Long.bitCount(toTest.getOccupied()));
+    }
+
+    @Test
+    void isOccupiedByPlayerOutOfBounds() {
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> toTest.isOccupiedByPlayer(8, 0, Player.WHITE));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> toTest.isOccupiedByPlayer(0, -1, Player.BLACK));
+    }
+
+    @Test
+    void movePieceFromEmpty() {
+        assertThrows(IllegalArgumentException.class, () -> toTest.movePiece(4, 1, 3, 2));
+    }
+
+    @Test
+    void hashFollowsPieces() {
+        long start = toTest.getHash();
+        toTest.movePiece(5, 0, 4, 1);
+        assertNotEquals(start, toTest.getHash());
+        toTest.movePiece(4, 1, 5, 0);
+        assertEquals(start, toTest.getHash());
+        toTest.removePiece(1, 0);
+        assertNotEquals(start, toTest.getHash());
+        toTest.placePiece(1, 0, Player.WHITE);
+        assertEquals(start, toTest.getHash());
+        assertEquals(new Board().getHash(), toTest.getHash());
+    }
+
+    @Test
+    void squareNumbers() {
+        assertEquals(1, Board.toSquareNumber(Board.toSquare(7, 6)));
+        assertEquals(5, Board.toSquareNumber(Board.toSquare(6, 7)));
+        assertEquals(32, Board.toSquareNumber(Board.toSquare(0, 1)));
+        for (int number = 1; number <= 32; ++number) {
+            int square = Board.fromSquareNumber(number);
+            assertTrue((Board.DARK_SQUARES & (1L << square)) != 0);
+            assertEquals(number, Board.toSquareNumber(square));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Board.fromSquareNumber(0));
+    }
+}
@@ -2,6 +2,8 @@ package rybchynskyi.checkersgui.core;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class CheckersComputerPlayerTest {
@@ -13,4 +15,143 @@ class CheckersComputerPlayerTest {
         assertDoesNotThrow(player::calculateMove);
         assertNotEquals(null, player.calculateMove());
     }
-}
\ No newline at end of file
+
+    @Test
+    void calculateMoveIsValidAndLeavesGameUntouched() {
+        CheckersLogic game = new CheckersLogic();
+        String board = game.getBoardString();
+        Move move = new CheckersComputerPlayer(game).calculateMove();
+        assertTrue(game.isMoveValid(move));
+        assertEquals(board, game.getBoardString());
+    }
+
+    @Test
+    void deterministic() {
+        CheckersLogic game = new CheckersLogic();
+        game.move(Move.parseMove("3c-4d"));
+        Move first = new CheckersComputerPlayer(game).calculateMove();
+        Move second = new CheckersComputerPlayer(game).calculateMove();
+        assertEquals(first, second);
+    }
+
+    @Test
+    void reportsNodes() {
+        CheckersComputerPlayer player = new CheckersComputerPlayer(new CheckersLogic());
+        player.calculateMove();
+        assertTrue(player.getNodesSearched() > 0);
+        assertTrue(player.getNodesPerSecond() >= 0);
+    }
+
+    @Test
+    void invalidDepth() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CheckersComputerPlayer(new CheckersLogic(), 0, new StandardEvaluator(), null));
+    }
+
+    @Test
+    void moveTime() {
+        CheckersComputerPlayer player = new CheckersComputerPlayer(new CheckersLogic(), AlphaBetaSearch.MAX_DEPTH,
+                new StandardEvaluator(), new TranspositionTable(1));
+        player.setMoveTime(20);
+        assertNotNull(player.calculateMove());
+        assertFalse(player.getLastIterations().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> player.setMoveTime(-1));
+    }
+
+    @Test
+    void calculateMoveOfSnapshot() {
+        CheckersLogic game = new CheckersLogic();
+        CheckersLogic snapshot = new CheckersLogic(game);
+        game.move(Move.parseMove("3c-4d"));
+        CheckersComputerPlayer player = new CheckersComputerPlayer(game);
+        Move move = player.calculateMove(snapshot);
+        assertTrue(snapshot.isMoveValid(move));
+        assertEquals(new CheckersComputerPlayer(snapshot).calculateMove(), move);
+    }
+
+    @Test
+    void cancelStopsRunningCalculation() throws InterruptedException {
+        CheckersComputerPlayer player = new CheckersComputerPlayer(new CheckersLogic(), AlphaBetaSearch.MAX_DEPTH,
+                new StandardEvaluator(), new TranspositionTable(1));
+        Thread engine = new Thread(player::calculateMove);
+        engine.start();
+        Thread.sleep(50);
+        player.cancel();
+        engine.join(5_000);
+        assertFalse(engine.isAlive());
+        assertNull(player.calculateMove());
+    }
+
+    /**
+     * Plays the computer's first move from the start position and starts pondering
+     * @param game the game in the start position
+     * @param player the computer player of the game
+     * @return the computer's principal variation, starting with the move it played
+     */
+    private static List<Move> playAndPonder(CheckersLogic game, CheckersComputerPlayer player) {
+        game.move(player.calculateMove());
+        List<SearchIteration> iterations = player.getLastIterations();
+        player.ponder(game);
+        return iterations.get(iterations.size() - 1).principalVariation();
+    }
+
+    @Test
+    void ponderHitContinuesPonderingSearch() {
+        CheckersLogic game = new CheckersLogic();
+        CheckersComputerPlayer player = new CheckersComputerPlayer(game, 6, new StandardEvaluator(),
+                new TranspositionTable(1));
+        player.setPondering(true);
+        List<Move> variation = playAndPonder(game, player);
+        game.move(variation.get(1));
+        Move move = player.calculateMove();
+        assertTrue(game.isMoveValid(move));
+        assertEquals(1, player.getPonderHits());
+        assertEquals(0, player.getPonderMisses());
+        assertEquals(6, player.getLastIterations().get(player.getLastIterations().size() - 1).depth());
+    }
+
+    @Test
+    void ponderMissSearchesAgain() {
+        CheckersLogic game = new CheckersLogic();
+        CheckersComputerPlayer player = new CheckersComputerPlayer(game, 6, new StandardEvaluator(),
+                new TranspositionTable(1));
+        player.setPondering(true);
+        List<Move> variation = playAndPonder(game, player);
+        Move other = game.getMove(0).equals(variation.get(1)) ? game.getMove(1) : game.getMove(0);
+        game.move(other);
+        Move move = player.calculateMove();
+        assertTrue(game.isMoveValid(move));
+        assertEquals(0, player.getPonderHits());
+        assertEquals(1, player.getPonderMisses());
+        assertEquals(new CheckersComputerPlayer(game, 6, new StandardEvaluator(), null).calculateMove(), move);
+    }
+
+    @Test
+    void cancelStopsPonderingWithoutPrincipalVariation() throws InterruptedException {
+        CheckersLogic game = new CheckersLogic();
+        CheckersComputerPlayer player = new CheckersComputerPlayer(game, AlphaBetaSearch.MAX_DEPTH,
+                new StandardEvaluator(), new TranspositionTable(1));
+        player.setPondering(true);
+        // With no earlier search to follow, the reply is predicted by a search on the pondering thread
+        player.ponder(game);
+        Thread.sleep(50);
+        player.cancel();
+        game.move(game.getMove(0));
+        long start = System.nanoTime();
+        assertNull(player.calculateMove());
+        assertTrue((System.nanoTime() - start) / 1_000_000 < 5_000);
+    }
+
+    @Test
+    void ponderIsIgnoredWhenOff() {
+        CheckersLogic game = new CheckersLogic();
+        CheckersComputerPlayer player = new CheckersComputerPlayer(game);
+        List<Move> variation = playAndPonder(game, player);
+        game.move(variation.get(1));
+        assertNotNull(player.calculateMove());
+        assertEquals(0, player.getPonderHits());
+        player.setPondering(true);
+        player.setPondering(false);
+        assertEquals(0, player.getPonderMisses());
+    }
+}
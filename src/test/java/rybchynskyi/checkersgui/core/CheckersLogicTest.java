@@ -3,6 +3,9 @@ package rybchynskyi.checkersgui.core;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class CheckersLogicTest {
@@ -110,4 +113,172 @@ class CheckersLogicTest {
     void getMoveCount() {
         assertEquals(7, game.getMoveCount());
     }
-}
\ No newline at end of file
+
+    @Test
+    void makeUnmakeMove() {
+        String board = game.getBoardString();
+        game.makeMove(Move.parseMove("3a-4b"));
+        assertEquals(Player.WHITE, game.getCurrentPlayer());
+        assertEquals(1, game.getUndoCount());
+        game.unmakeMove();
+        assertEquals(board, game.getBoardString());
+        assertEquals(Player.BLACK, game.getCurrentPlayer());
+        assertEquals(0, game.getUndoCount());
+    }
+
+    @Test
+    void unmakeJumpRestoresCapture() {
+        for (String move : new String[] {"3a-4b", "6d-5c"})
+            game.move(Move.parseMove(move));
+        String board = game.getBoardString();
+        game.makeMove(Move.parseMove("4b-6d"));
+        assertEquals("_", game.getSymbol(3, 2));
+        game.unmakeMove();
+        assertEquals(board, game.getBoardString());
+        assertEquals(Player.BLACK, game.getCurrentPlayer());
+        assertFalse(game.isJumpContinuation());
+    }
+
+    @Test
+    void unmakeWithoutMove() {
+        assertThrows(IllegalStateException.class, () -> game.unmakeMove());
+    }
+
+    @Test
+    void moveCacheFollowsPosition() {
+        assertEquals(7, game.getMoveCount());
+        game.move(Move.parseMove("3a-4b"));
+        assertEquals(7, game.getMoveCount());
+        assertFalse(game.isMoveValid(Move.parseMove("3c-4d")));
+        assertTrue(game.isMoveValid(Move.parseMove("6d-5c")));
+        game.unmakeMove();
+        assertTrue(game.isMoveValid(Move.parseMove("3c-4d")));
+    }
+
+    @Test
+    void invalidMoveOffBoard() {
+        assertFalse(game.isMoveValid(new Move(new Coordinate(5, 0), new Coordinate(-1, 9))));
+    }
+
+    @Test
+    void hashIncludesPlayerToMove() {
+        assertNotEquals(new CheckersLogic(Player.WHITE).getHash(), game.getHash());
+        long start = game.getHash();
+        game.move(Move.parseMove("3a-4b"));
+        game.move(Move.parseMove("6b-5a"));
+        game.move(Move.parseMove("3c-4d"));
+        long transposed = game.getHash();
+        game.unmakeMove();
+        game.unmakeMove();
+        game.unmakeMove();
+        assertEquals(start, game.getHash());
+        game.move(Move.parseMove("3c-4d"));
+        game.move(Move.parseMove("6b-5a"));
+        game.move(Move.parseMove("3a-4b"));
+        assertEquals(transposed, game.getHash());
+    }
+
+    @Test
+    void fenRoundTrip() {
+        assertEquals("B:W21,22,23,24,25,26,27,28,29,30,31,32:B1,2,3,4,5,6,7,8,9,10,11,12", game.getFen());
+        CheckersLogic parsed = CheckersLogic.parseFen(game.getFen());
+        assertEquals(game.getBoardString(), parsed.getBoardString());
+        assertEquals(game.getHash(), parsed.getHash());
+        CheckersLogic position = CheckersLogic.parseFen("W:B14,15:W19");
+        assertEquals(Player.WHITE, position.getCurrentPlayer());
+        assertEquals("W:W19:B14,15", position.getFen());
+    }
+
+    @Test
+    void invalidFen() {
+        assertThrows(IllegalArgumentException.class, () -> CheckersLogic.parseFen("B:W1,2"));
+        assertThrows(IllegalArgumentException.class, () -> CheckersLogic.parseFen("B:W1:W2"));
+        assertThrows(IllegalArgumentException.class, () -> CheckersLogic.parseFen("B:W33:B1"));
+        assertThrows(IllegalArgumentException.class, () -> CheckersLogic.parseFen("B:W1:B1"));
+    }
+
+    @Test
+    void compoundMoveIsWholeChain() {
+        CheckersLogic game = CheckersLogic.parseFen("B:W11,18:B8");
+        CompoundMoveList moves = new CompoundMoveList();
+        game.getCompoundMoves(moves);
+        assertEquals(1, moves.size());
+        assertEquals(2, moves.getHopCount(0));
+        assertTrue(moves.isCapture(0));
+        assertEquals(1, game.getMoveCount());
+
+        game.makeCompoundMove(moves, 0);
+        assertEquals("W:W:B22", game.getFen());
+        assertEquals(2, game.getUndoCount());
+        game.unmakeCompoundMove();
+        assertEquals("B:W11,18:B8", game.getFen());
+        assertEquals(0, game.getUndoCount());
+        assertThrows(IllegalStateException.class, game::unmakeCompoundMove);
+    }
+
+    @Test
+    void compoundMovesOfStartPosition() {
+        CheckersLogic game = new CheckersLogic();
+        CompoundMoveList moves = new CompoundMoveList();
+        game.getCompoundMoves(moves);
+        assertEquals(game.getMoveCount(), moves.size());
+        for (int i = 0; i < moves.size(); ++i) {
+            assertEquals(1, moves.getHopCount(i));
+            assertEquals(game.getPackedMove(i), moves.getHop(i, 0));
+        }
+    }
+
+    @Test
+    void takeChangedSquares() {
+        CheckersLogic game = new CheckersLogic();
+        long initial = game.getPieces(Player.WHITE) | game.getPieces(Player.BLACK);
+        assertEquals(initial, game.takeChangedSquares());
+        assertEquals(0, game.takeChangedSquares());
+        Move first = Move.parseMove("3a-4b");
+        game.move(first);
+        assertEquals(1L << Board.toSquare(first.from().row(), first.from().col())
+                | 1L << Board.toSquare(first.to().row(), first.to().col()), game.takeChangedSquares());
+        game.move(Move.parseMove("6d-5c"));
+        game.unmakeMove();
+        assertEquals(0, game.takeChangedSquares());
+        game.move(Move.parseMove("6d-5c"));
+        game.move(Move.parseMove("4b-6d"));
+        // The capture lands where the captured piece started from, so only 4b and 6d differ
+        assertEquals(2, Long.bitCount(game.takeChangedSquares()));
+    }
+
+    @Test
+    void listenersSeeMovesCapturesAndTakeBacks() {
+        CheckersLogic game = new CheckersLogic();
+        List<String> events = new ArrayList<>();
+        GameListener listener = event -> events.add(event.getType() + " " + event.getPlayer().name());
+        game.addListener(listener);
+        for (String move : new String[] {"3a-4b", "6d-5c", "4b-6d"})
+            game.move(Move.parseMove(move));
+        game.unmakeMove();
+        assertEquals(List.of("PIECE_MOVED BLACK", "TURN_CHANGED WHITE", "PIECE_MOVED WHITE", "TURN_CHANGED BLACK",
+                "PIECE_MOVED BLACK", "PIECE_CAPTURED WHITE", "TURN_CHANGED WHITE", "MOVE_TAKEN_BACK BLACK",
+                "TURN_CHANGED BLACK"), events);
+
+        assertTrue(game.removeListener(listener));
+        assertFalse(game.removeListener(listener));
+        game.move(Move.parseMove("4b-6d"));
+        assertEquals(9, events.size());
+    }
+
+    @Test
+    void listenersSeeGameOverButNotScratchMoves() {
+        CheckersLogic game = CheckersLogic.parseFen("B:W23:B19");
+        List<GameEvent.Type> events = new ArrayList<>();
+        game.addListener(event -> events.add(event.getType()));
+        game.getCompoundMoves(new CompoundMoveList());
+        assertTrue(events.isEmpty());
+        game.makeMove(game.getPackedMove(0));
+        assertEquals(GameEvent.Type.GAME_OVER, events.get(events.size() - 1));
+        int seen = events.size();
+        game.unmakeMove();
+        CheckersLogic copy = new CheckersLogic(game);
+        copy.makeMove(copy.getPackedMove(0));
+        assertEquals(seen + 2, events.size());
+    }
+}
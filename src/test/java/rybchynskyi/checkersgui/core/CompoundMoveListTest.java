@@ -0,0 +1,44 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompoundMoveListTest {
+    @Test
+    void addAndRead() {
+        CompoundMoveList list = new CompoundMoveList();
+        assertTrue(list.isEmpty());
+        assertTrue(list.add(new int[] {5, 6, 7}, 3, 0));
+        assertTrue(list.add(new int[] {8}, 1, 0));
+        assertEquals(2, list.size());
+        assertEquals(3, list.getHopCount(0));
+        assertEquals(7, list.getHop(0, 2));
+        assertEquals(8, list.getHop(1, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getHop(1, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.getHopCount(2));
+    }
+
+    @Test
+    void duplicatePositionsKeptOnce() {
+        CompoundMoveList list = new CompoundMoveList();
+        assertTrue(list.add(new int[] {1, 2}, 2, 42L));
+        assertFalse(list.add(new int[] {2, 1}, 2, 42L));
+        assertEquals(1, list.size());
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void growsPastCapacity() {
+        CompoundMoveList list = new CompoundMoveList();
+        int[] path = new int[10];
+        for (int i = 0; i < 100; ++i) {
+            path[0] = i;
+            assertTrue(list.add(path, 10, i + 1));
+        }
+        assertEquals(100, list.size());
+        assertEquals(99, list.getHop(99, 0));
+        assertEquals(10, list.getHopCount(50));
+    }
+}
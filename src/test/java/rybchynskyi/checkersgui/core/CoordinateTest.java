@@ -37,4 +37,11 @@ class CoordinateTest {
     void failParse4o() {
         assertThrows(IllegalArgumentException.class, () -> Coordinate.parse("4o"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void ofIsInterned() {
+        assertSame(Coordinate.of(4, 2), Coordinate.parse("4c"));
+        assertSame(Coordinate.of(4, 2), Coordinate.ofSquare(Board.toSquare(4, 2)));
+        assertEquals(new Coordinate(4, 2), Coordinate.of(4, 2));
+    }
+}
@@ -0,0 +1,56 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IterativeDeepeningTest {
+
+    @Test
+    void iterationsReachMaxDepth() {
+        IterativeDeepening search = new IterativeDeepening(new CheckersLogic(), new StandardEvaluator(), null);
+        Move move = search.search(0, 5);
+        List<SearchIteration> iterations = search.getIterations();
+        assertEquals(5, iterations.size());
+        for (int i = 0; i < iterations.size(); ++i) {
+            assertEquals(i + 1, iterations.get(i).depth());
+        }
+        SearchIteration last = iterations.get(4);
+        assertEquals(move, last.principalVariation().get(0));
+        int fixedDepth = new AlphaBetaSearch(new CheckersLogic(), new StandardEvaluator(), null).search(5);
+        assertEquals(fixedDepth, last.score());
+    }
+
+    @Test
+    void principalVariationIsPlayable() {
+        CheckersLogic game = new CheckersLogic();
+        IterativeDeepening search = new IterativeDeepening(new CheckersLogic(game), new StandardEvaluator(),
+                new TranspositionTable(1));
+        search.search(0, 6);
+        for (Move move : search.getIterations().get(5).principalVariation()) {
+            assertTrue(game.isMoveValid(move));
+            game.move(move);
+        }
+    }
+
+    @Test
+    void respectsTimeBudget() {
+        IterativeDeepening search = new IterativeDeepening(new CheckersLogic(), new StandardEvaluator(),
+                new TranspositionTable(1));
+        long start = System.nanoTime();
+        Move move = search.search(50, AlphaBetaSearch.MAX_DEPTH);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        assertNotNull(move);
+        assertTrue(elapsedMillis < 500, "took " + elapsedMillis + " ms");
+        assertFalse(search.getIterations().isEmpty());
+    }
+
+    @Test
+    void invalidArguments() {
+        IterativeDeepening search = new IterativeDeepening(new CheckersLogic(), new StandardEvaluator(), null);
+        assertThrows(IllegalArgumentException.class, () -> search.search(-1, 4));
+        assertThrows(IllegalArgumentException.class, () -> search.search(0, 0));
+    }
+}
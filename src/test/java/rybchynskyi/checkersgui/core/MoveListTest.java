@@ -0,0 +1,39 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveListTest {
+    @Test
+    void addGrowsPastCapacity() {
+        MoveList list = new MoveList();
+        for (int i = 0; i < 100; ++i) {
+            list.add(i + 1);
+        }
+        assertEquals(100, list.size());
+        assertEquals(1, list.get(0));
+        assertEquals(100, list.get(99));
+    }
+
+    @Test
+    void clearAndCopy() {
+        MoveList list = new MoveList();
+        list.add(7);
+        list.add(9);
+        list.set(1, 11);
+        MoveList copy = new MoveList();
+        copy.copyFrom(list);
+        list.clear();
+        assertTrue(list.isEmpty());
+        assertEquals(2, copy.size());
+        assertEquals(11, copy.get(1));
+    }
+
+    @Test
+    void outOfRange() {
+        MoveList list = new MoveList();
+        list.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+}
@@ -0,0 +1,60 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveOrdererTest {
+    final int quietA = PackedMove.step(Board.toSquare(5, 0), Board.toSquare(4, 1));
+    final int quietB = PackedMove.step(Board.toSquare(5, 2), Board.toSquare(4, 3));
+    final int quietC = PackedMove.step(Board.toSquare(5, 4), Board.toSquare(4, 5));
+    final int capture = PackedMove.jump(Board.toSquare(5, 6), Board.toSquare(3, 4), Board.toSquare(4, 5));
+    final int otherCapture = PackedMove.jump(Board.toSquare(5, 2), Board.toSquare(3, 0), Board.toSquare(4, 1));
+    final int[] quiet = new int[8];
+
+    @Test
+    void hashMoveThenKillers() {
+        MoveOrderer orderer = new MoveOrderer(8, 8);
+        orderer.recordCutoff(quietC, 1, 2);
+        int[] moves = {quietA, quietB, quietC};
+        orderer.order(moves, quiet, 3, quietB, 2);
+        assertArrayEquals(new int[] {quietB, quietC, quietA}, moves);
+    }
+
+    @Test
+    void hashMoveThenLongestCaptures() {
+        MoveOrderer orderer = new MoveOrderer(8, 8);
+        int[] moves = {capture, otherCapture, capture | 2 << PackedMove.BITS};
+        orderer.order(moves, new int[] {1, 3, 2}, 3, capture | 2 << PackedMove.BITS, 0);
+        assertArrayEquals(new int[] {capture | 2 << PackedMove.BITS, otherCapture, capture}, moves);
+        moves = new int[] {capture, otherCapture, capture | 2 << PackedMove.BITS};
+        orderer.order(moves, new int[] {1, 3, 2}, 3, PackedMove.NONE, 0);
+        assertArrayEquals(new int[] {otherCapture, capture | 2 << PackedMove.BITS, capture}, moves);
+    }
+
+    @Test
+    void historyOrdersQuietMoves() {
+        MoveOrderer orderer = new MoveOrderer(8, 8);
+        orderer.recordCutoff(quietC, 2, 5);
+        orderer.recordCutoff(quietB, 3, 6);
+        assertEquals(4, orderer.getHistory(quietC));
+        assertEquals(9, orderer.getHistory(quietB));
+        int[] moves = {quietA, quietC, quietB};
+        orderer.order(moves, quiet, 3, PackedMove.NONE, 0);
+        assertArrayEquals(new int[] {quietB, quietC, quietA}, moves);
+    }
+
+    @Test
+    void capturesAreNotKillers() {
+        MoveOrderer orderer = new MoveOrderer(8, 8);
+        orderer.recordCutoff(quietA, 1, 3);
+        orderer.recordCutoff(quietB, 1, 3);
+        orderer.recordCutoff(capture, 1, 3);
+        assertEquals(quietB, orderer.getKiller(3, 0));
+        assertEquals(quietA, orderer.getKiller(3, 1));
+        assertEquals(0, orderer.getHistory(capture));
+        orderer.clear();
+        assertEquals(PackedMove.NONE, orderer.getKiller(3, 0));
+        assertEquals(0, orderer.getHistory(quietB));
+    }
+}
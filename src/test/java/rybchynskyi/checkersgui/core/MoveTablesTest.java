@@ -0,0 +1,38 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoveTablesTest {
+
+    private int[] targets(int[][][] table, Player player, int row, int col) {
+        return table[player.ordinal()][Board.toSquare(row, col)];
+    }
+
+    @Test
+    void blackStepsUp() {
+        assertArrayEquals(new int[] {MoveTables.NONE, Board.toSquare(4, 1)},
+                targets(MoveTables.STEP_TARGETS, Player.BLACK, 5, 0));
+        assertArrayEquals(new int[] {Board.toSquare(4, 2), Board.toSquare(4, 4)},
+                targets(MoveTables.STEP_TARGETS, Player.BLACK, 5, 3));
+    }
+
+    @Test
+    void whiteStepsDown() {
+        assertArrayEquals(new int[] {Board.toSquare(3, 6), MoveTables.NONE},
+                targets(MoveTables.STEP_TARGETS, Player.WHITE, 2, 7));
+        assertArrayEquals(new int[] {MoveTables.NONE, MoveTables.NONE},
+                targets(MoveTables.STEP_TARGETS, Player.WHITE, 7, 0));
+    }
+
+    @Test
+    void jumps() {
+        assertArrayEquals(new int[] {MoveTables.NONE, Board.toSquare(3, 2)},
+                targets(MoveTables.JUMP_LANDINGS, Player.BLACK, 5, 0));
+        assertArrayEquals(new int[] {MoveTables.NONE, Board.toSquare(4, 1)},
+                targets(MoveTables.JUMPED_SQUARES, Player.BLACK, 5, 0));
+        assertArrayEquals(new int[] {MoveTables.NONE, MoveTables.NONE},
+                targets(MoveTables.JUMP_LANDINGS, Player.WHITE, 6, 1));
+    }
+}
@@ -31,4 +31,18 @@ class MoveTest {
     void failParse3z4b() {
         assertThrows(IllegalArgumentException.class, () -> Coordinate.parse("3z-4b"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void toNotationMatchesParse() {
+        assertEquals("3a-4b", Move.parseMove("3a-4b").toNotation());
+        assertEquals("8h", Coordinate.parse("8h").toNotation());
+    }
+
+    @Test
+    void ofIsInterned() {
+        Move move = Move.parseMove("3a-4b");
+        assertSame(move, Move.of(Coordinate.parse("3a"), Coordinate.parse("4b")));
+        assertSame(move, Move.of(Board.toSquare(5, 0), Board.toSquare(4, 1)));
+        assertEquals(new Move(Coordinate.parse("3a"), Coordinate.parse("4b")), move);
+    }
+}
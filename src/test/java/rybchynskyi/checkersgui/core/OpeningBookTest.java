@@ -0,0 +1,70 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpeningBookTest {
+    private static final int PLIES = 6;
+    private static final int DEPTH = 3;
+
+    private static Path file;
+    private static OpeningBook book;
+
+    @BeforeAll
+    static void build() throws IOException {
+        OpeningBookBuilder builder = new OpeningBookBuilder(PLIES, DEPTH, 0.5, 7);
+        for (int i = 0; i < 8; ++i) {
+            builder.playGame();
+        }
+        file = Files.createTempFile("book", ".bin");
+        builder.write(file);
+        book = new OpeningBook(file);
+    }
+
+    @Test
+    void startPositionIsEngineMove() {
+        CheckersLogic game = new CheckersLogic();
+        Move expected = new IterativeDeepening(new CheckersLogic(game), new StandardEvaluator(),
+                new TranspositionTable(1)).search(0, DEPTH);
+        assertEquals(expected, book.probe(game));
+    }
+
+    @Test
+    void recordsAreSorted() throws IOException {
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertEquals(book.size() * OpeningBook.RECORD_BYTES, bytes.capacity());
+        for (int i = 1; i < book.size(); ++i) {
+            long previous = bytes.getLong((i - 1) * OpeningBook.RECORD_BYTES);
+            assertTrue(previous <= bytes.getLong(i * OpeningBook.RECORD_BYTES));
+        }
+    }
+
+    @Test
+    void unknownPosition() {
+        assertNull(book.probe(CheckersLogic.parseFen("B:W32:B1")));
+        assertEquals(PackedMove.NONE, book.probePacked(CheckersLogic.parseFen("B:W32:B1")));
+    }
+
+    @Test
+    void invalidFile() throws IOException {
+        Path broken = Files.createTempFile("book", ".bin");
+        Files.write(broken, new byte[OpeningBook.RECORD_BYTES + 1]);
+        assertThrows(IllegalArgumentException.class, () -> new OpeningBook(broken));
+    }
+
+    @Test
+    void computerPlaysBookMove() {
+        CheckersLogic game = new CheckersLogic();
+        CheckersComputerPlayer player = new CheckersComputerPlayer(game);
+        player.setOpeningBook(book);
+        assertEquals(book.probe(game), player.calculateMove());
+        assertEquals(0, player.getNodesSearched());
+    }
+}
@@ -0,0 +1,38 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedMoveTest {
+    @Test
+    void stepRoundTrip() {
+        int move = PackedMove.step(Board.toSquare(5, 0), Board.toSquare(4, 1));
+        assertEquals(Board.toSquare(5, 0), PackedMove.from(move));
+        assertEquals(Board.toSquare(4, 1), PackedMove.to(move));
+        assertFalse(PackedMove.isCapture(move));
+        assertNotEquals(PackedMove.NONE, move);
+    }
+
+    @Test
+    void jumpRoundTrip() {
+        int move = PackedMove.jump(Board.toSquare(5, 2), Board.toSquare(3, 4), Board.toSquare(4, 3));
+        assertEquals(Board.toSquare(5, 2), PackedMove.from(move));
+        assertEquals(Board.toSquare(3, 4), PackedMove.to(move));
+        assertEquals(Board.toSquare(4, 3), PackedMove.captured(move));
+        assertTrue(PackedMove.isCapture(move));
+        assertEquals(0, move >>> PackedMove.BITS);
+    }
+
+    @Test
+    void packMoveObjects() {
+        Move step = Move.parseMove("3a-4b");
+        int packedStep = PackedMove.of(step);
+        assertFalse(PackedMove.isCapture(packedStep));
+        assertSame(Move.of(step.from(), step.to()), PackedMove.toMove(packedStep));
+
+        int packedJump = PackedMove.of(Move.parseMove("3c-5e"));
+        assertTrue(PackedMove.isCapture(packedJump));
+        assertEquals(Board.toSquare(4, 3), PackedMove.captured(packedJump));
+    }
+}
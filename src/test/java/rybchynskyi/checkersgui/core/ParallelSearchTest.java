@@ -0,0 +1,69 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelSearchTest {
+
+    @Test
+    void findsValidMove() {
+        CheckersLogic game = new CheckersLogic();
+        ParallelSearch search = new ParallelSearch(4, new StandardEvaluator(), new TranspositionTable(1));
+        try {
+            Move move = search.search(game, 0, 6);
+            assertTrue(game.isMoveValid(move));
+            assertEquals(6, search.getIterations().size());
+            assertTrue(search.getNodes() > 0);
+            assertTrue(search.getQuiescenceNodes() > 0);
+        } finally {
+            search.shutdown();
+        }
+        assertEquals(new CheckersLogic().getHash(), game.getHash());
+    }
+
+    @Test
+    void advancesTableGenerationOncePerSearch() {
+        TranspositionTable table = new TranspositionTable(1);
+        ParallelSearch search = new ParallelSearch(4, new StandardEvaluator(), table);
+        try {
+            int generation = table.getGeneration();
+            search.search(new CheckersLogic(), 0, 4);
+            assertEquals(generation + 1, table.getGeneration());
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    void respectsTimeBudget() {
+        ParallelSearch search = new ParallelSearch(2, new StandardEvaluator(), new TranspositionTable(1));
+        try {
+            long start = System.nanoTime();
+            assertNotNull(search.search(new CheckersLogic(), 50, AlphaBetaSearch.MAX_DEPTH));
+            assertTrue((System.nanoTime() - start) / 1_000_000 < 1000);
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    void cancelBeforeSearchStopsIt() {
+        ParallelSearch search = new ParallelSearch(2, new StandardEvaluator(), new TranspositionTable(1));
+        try {
+            search.cancel();
+            long start = System.nanoTime();
+            search.search(new CheckersLogic(), 0, AlphaBetaSearch.MAX_DEPTH);
+            assertTrue((System.nanoTime() - start) / 1_000_000 < 5_000);
+        } finally {
+            search.shutdown();
+        }
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelSearch(0, new StandardEvaluator(), new TranspositionTable(1)));
+        assertThrows(IllegalArgumentException.class, () -> new ParallelSearch(2, new StandardEvaluator(), null));
+    }
+}
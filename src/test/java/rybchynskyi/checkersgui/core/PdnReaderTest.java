@@ -0,0 +1,121 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdnReaderTest {
+
+    private static PdnReader readerOf(String text) {
+        return new PdnReader(Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.ISO_8859_1))));
+    }
+
+    /**
+     * Converts a hop of the game to draughts notation
+     */
+    private static String hop(int move) {
+        return Board.toSquareNumber(PackedMove.from(move)) + (PackedMove.isCapture(move) ? "x" : "-")
+                + Board.toSquareNumber(PackedMove.to(move));
+    }
+
+    @Test
+    void readsTagsCommentsAndMoves() throws IOException {
+        CheckersLogic expected = new CheckersLogic();
+        StringBuilder text = new StringBuilder("[Event \"Club \\\"match\\\"\"]\n[Black \"A\"]\n\n");
+        for (int i = 0; i < 6; ++i) {
+            int move = expected.getPackedMove(0);
+            if (expected.getCurrentPlayer() == Player.BLACK) text.append(i / 2 + 1).append(". ");
+            text.append(hop(move)).append(i == 2 ? " {a comment} " : " ");
+            expected.makeMove(move);
+        }
+        text.append("; trailing comment\n*\n");
+
+        try (PdnReader reader = readerOf(text.toString())) {
+            assertTrue(reader.nextGame());
+            assertEquals("Club \"match\"", reader.getTags().get("Event"));
+            assertEquals("A", reader.getTags().get("Black"));
+            assertEquals("*", reader.getResult());
+            assertEquals(6, reader.getMoves().size());
+            assertEquals(expected.getFen(), reader.getPosition().getFen());
+            assertEquals(new CheckersLogic().getFen(), reader.getStartPosition().getFen());
+            assertFalse(reader.nextGame());
+            assertEquals(1, reader.getGames());
+        }
+    }
+
+    @Test
+    void readsSeveralGamesAndFenTag() throws IOException {
+        String text = "[FEN \"B:W23:B19\"]\n1. 19x26 1-0\n[Event \"second\"]\n1. 11-15 [Event \"third\"]\n0-1";
+        try (PdnReader reader = readerOf(text)) {
+            assertTrue(reader.nextGame());
+            assertEquals("1-0", reader.getResult());
+            assertTrue(reader.getPosition().isGameOver());
+            assertTrue(reader.nextGame());
+            assertEquals("second", reader.getTags().get("Event"));
+            assertEquals("*", reader.getResult());
+            assertEquals(1, reader.getMoves().size());
+            assertTrue(reader.nextGame());
+            assertEquals("third", reader.getTags().get("Event"));
+            assertEquals(0, reader.getMoves().size());
+            assertFalse(reader.nextGame());
+        }
+    }
+
+    @Test
+    void readsStandardOpeningNumbering() throws IOException {
+        try (PdnReader reader = readerOf("1. 11-15 23-19 2. 8-11 *")) {
+            assertTrue(reader.nextGame());
+            assertEquals(3, reader.getMoves().size());
+            assertEquals("W:W19,21,22,24,25,26,27,28,29,30,31,32:B1,2,3,4,5,6,7,9,10,11,12,15",
+                    reader.getPosition().getFen());
+        }
+    }
+
+    @Test
+    void rejectsIllegalMoveWithGameNumber() throws IOException {
+        try (PdnReader reader = readerOf("1. 11-15 *\n\n1. 22-19 *\n")) {
+            assertTrue(reader.nextGame());
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, reader::nextGame);
+            assertTrue(e.getMessage().startsWith("game 2: illegal move 22-19"));
+        }
+    }
+
+    @Test
+    void rejectsWrongResult() throws IOException {
+        try (PdnReader reader = readerOf("[FEN \"B:W23:B19\"]\n1. 19x26 0-1\n")) {
+            assertThrows(IllegalArgumentException.class, reader::nextGame);
+        }
+    }
+
+    @Test
+    void readsJumpChainWrittenWithEndSquaresOnly() throws IOException {
+        Random random = new Random(25);
+        CompoundMoveList turns = new CompoundMoveList();
+        while (true) {
+            CheckersLogic game = new CheckersLogic();
+            while (!game.isGameOver()) {
+                game.getCompoundMoves(turns);
+                for (int i = 0; i < turns.size(); ++i) {
+                    int last = turns.getHopCount(i) - 1;
+                    if (last == 0 || game.isJumpContinuation()) continue;
+                    String text = "[FEN \"" + game.getFen() + "\"]\n1. "
+                            + Board.toSquareNumber(PackedMove.from(turns.getHop(i, 0))) + "x"
+                            + Board.toSquareNumber(PackedMove.to(turns.getHop(i, last))) + " *";
+                    try (PdnReader reader = readerOf(text)) {
+                        assertTrue(reader.nextGame());
+                        assertEquals(last + 1, reader.getMoves().size());
+                        assertNotEquals(game.getCurrentPlayer(), reader.getPosition().getCurrentPlayer());
+                    }
+                    return;
+                }
+                game.makeMove(game.getPackedMove(random.nextInt(game.getMoveCount())));
+            }
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.channels.Channels;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PdnWriterTest {
+
+    private static MoveList randomGame(Random random) {
+        CheckersLogic game = new CheckersLogic();
+        MoveList moves = new MoveList();
+        while (!game.isGameOver()) {
+            int move = game.getPackedMove(random.nextInt(game.getMoveCount()));
+            moves.add(move);
+            game.makeMove(move);
+        }
+        return moves;
+    }
+
+    @Test
+    void writesNumberedMovesAndResult() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        MoveList moves = new MoveList();
+        CheckersLogic game = new CheckersLogic();
+        for (int i = 0; i < 3; ++i) {
+            moves.add(game.getPackedMove(0));
+            game.makeMove(game.getPackedMove(0));
+        }
+        Map<String, String> tags = new LinkedHashMap<>();
+        tags.put("Event", "Test");
+        tags.put("Result", "ignored");
+        try (PdnWriter writer = new PdnWriter(Channels.newChannel(bytes))) {
+            writer.writeGame(tags, new CheckersLogic(), moves);
+        }
+        String text = bytes.toString(StandardCharsets.ISO_8859_1);
+        assertTrue(text.startsWith("[Event \"Test\"]\n[Result \"*\"]\n\n1. "));
+        assertTrue(text.contains(" 2. "));
+        assertTrue(text.endsWith(" *\n\n"));
+    }
+
+    @Test
+    void writesFenOfOtherStartAndDecisiveResult() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        CheckersLogic start = CheckersLogic.parseFen("B:W23:B19");
+        MoveList moves = new MoveList();
+        moves.add(start.getPackedMove(0));
+        try (PdnWriter writer = new PdnWriter(Channels.newChannel(bytes))) {
+            writer.writeGame(Map.of(), start, moves);
+        }
+        assertEquals("[FEN \"B:W23:B19\"]\n[Result \"1-0\"]\n\n1. 19x26 1-0\n\n",
+                bytes.toString(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void rejectsIllegalMove() {
+        MoveList moves = new MoveList();
+        moves.add(PackedMove.step(Board.fromSquareNumber(1), Board.fromSquareNumber(5)));
+        PdnWriter writer = new PdnWriter(Channels.newChannel(new ByteArrayOutputStream()));
+        assertThrows(IllegalArgumentException.class, () -> writer.writeGame(Map.of(), new CheckersLogic(), moves));
+    }
+
+    @Test
+    void roundTripsManyGamesThroughFile() throws IOException {
+        Path file = Files.createTempFile("games", ".pdn");
+        Random random = new Random(7);
+        MoveList[] games = new MoveList[300];
+        try (PdnWriter writer = PdnWriter.open(file)) {
+            for (int i = 0; i < games.length; ++i) {
+                games[i] = randomGame(random);
+                writer.writeGame(Map.of("Round", Integer.toString(i)), new CheckersLogic(), games[i]);
+            }
+        }
+        try (PdnReader reader = PdnReader.open(file)) {
+            for (int i = 0; i < games.length; ++i) {
+                assertTrue(reader.nextGame());
+                assertEquals(Integer.toString(i), reader.getTags().get("Round"));
+                assertEquals(games[i].size(), reader.getMoves().size());
+                for (int j = 0; j < games[i].size(); ++j) {
+                    assertEquals(games[i].get(j), reader.getMoves().get(j));
+                }
+                assertNotEquals("*", reader.getResult());
+            }
+            assertFalse(reader.nextGame());
+        } finally {
+            Files.delete(file);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PerftTest {
+
+    @Test
+    void startPosition() {
+        long[] expected = {1, 7, 49, 302, 1469, 7361, 36768};
+        Perft perft = new Perft(new CheckersLogic());
+        for (int depth = 0; depth < expected.length; ++depth) {
+            assertEquals(expected[depth], perft.perft(depth), "depth " + depth);
+        }
+    }
+
+    @Test
+    void divideSumsToPerft() {
+        CheckersLogic game = new CheckersLogic();
+        Perft perft = new Perft(game);
+        Map<Move, Long> divide = perft.divide(5);
+        assertEquals(7, divide.size());
+        assertEquals(perft.perft(5), divide.values().stream().mapToLong(Long::longValue).sum());
+        assertEquals(new CheckersLogic().getHash(), game.getHash());
+    }
+
+    @Test
+    void fenPosition() {
+        Perft perft = new Perft(CheckersLogic.parseFen("B:W19:B14,15"));
+        assertEquals(1, perft.perft(1));
+        assertEquals(0, perft.perft(2));
+    }
+
+    @Test
+    void noMoves() {
+        assertEquals(0, new Perft(CheckersLogic.parseFen("W:W:B15")).perft(3));
+    }
+}
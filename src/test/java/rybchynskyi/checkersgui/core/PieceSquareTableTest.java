@@ -0,0 +1,34 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceSquareTableTest {
+
+    @Test
+    void rejectsWrongLength() {
+        assertThrows(IllegalArgumentException.class, () -> new PieceSquareTable(new int[64], new int[32]));
+    }
+
+    @Test
+    void sumAddsValuesOfEachPiece() {
+        int[] white = new int[64];
+        int[] black = new int[64];
+        white[1] = 3;
+        white[10] = 4;
+        black[1] = 7;
+        PieceSquareTable table = new PieceSquareTable(white, black);
+        assertEquals(7, table.sum(1L << 1 | 1L << 10, Player.WHITE));
+        assertEquals(7, table.sum(1L << 1, Player.BLACK));
+        assertEquals(0, table.sum(0, Player.WHITE));
+    }
+
+    @Test
+    void valuesAreCopied() {
+        int[] white = new int[64];
+        PieceSquareTable table = new PieceSquareTable(white, new int[64]);
+        white[5] = 9;
+        assertEquals(0, table.value(Player.WHITE, 5));
+    }
+}
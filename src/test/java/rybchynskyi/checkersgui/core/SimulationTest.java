@@ -0,0 +1,61 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationTest {
+
+    @Test
+    void csvHasHeaderAndOneLinePerGame() throws IOException {
+        Simulation simulation = new Simulation(0, 5);
+        StringWriter out = new StringWriter();
+        simulation.run(50, Simulation.Format.CSV, out);
+        String[] lines = out.toString().split("\n");
+        assertEquals(51, lines.length);
+        assertEquals("game,plies,winner,captures,micros", lines[0]);
+        long plies = 0;
+        long captures = 0;
+        for (int i = 1; i < lines.length; ++i) {
+            String[] fields = lines[i].split(",");
+            assertEquals(Integer.toString(i), fields[0]);
+            plies += Integer.parseInt(fields[1]);
+            captures += Integer.parseInt(fields[3]);
+            assertDoesNotThrow(() -> Player.valueOf(fields[2]));
+        }
+        assertEquals(50, simulation.getGames());
+        assertEquals(simulation.getTotalPlies(), plies);
+        assertEquals(simulation.getTotalCaptures(), captures);
+    }
+
+    @Test
+    void sameSeedSameGames() throws IOException {
+        StringWriter first = new StringWriter();
+        StringWriter second = new StringWriter();
+        new Simulation(0, 9).run(20, Simulation.Format.JSON, first);
+        new Simulation(0, 9).run(20, Simulation.Format.JSON, second);
+        assertEquals(first.toString().replaceAll("\"micros\":\\d+", ""),
+                second.toString().replaceAll("\"micros\":\\d+", ""));
+        assertTrue(first.toString().startsWith("{\"game\":1,\"plies\":"));
+    }
+
+    @Test
+    void searchingPlayersAfterRandomOpening() throws IOException {
+        Simulation simulation = new Simulation(2, 3);
+        simulation.setOpening(4);
+        StringWriter out = new StringWriter();
+        simulation.run(2, Simulation.Format.TEXT, out);
+        assertTrue(out.toString().startsWith("game 1: "));
+        assertEquals(2, simulation.getGames());
+        assertTrue(simulation.getTotalPlies() >= 8);
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Simulation(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Simulation(0, 0).setOpening(-1));
+    }
+}
@@ -0,0 +1,64 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StandardEvaluatorTest {
+
+    @Test
+    void startPositionIsBalanced() {
+        assertEquals(0, new StandardEvaluator().evaluate(new CheckersLogic()));
+    }
+
+    @Test
+    void materialAdvantage() {
+        CheckersLogic game = new CheckersLogic();
+        for (String move : new String[] {"3a-4b", "6d-5c", "4b-6d"})
+            game.move(Move.parseMove(move));
+        Evaluator material = new StandardEvaluator(100, 0, 0, 0);
+        assertEquals(Player.WHITE, game.getCurrentPlayer());
+        assertEquals(-100, material.evaluate(game));
+    }
+
+    @Test
+    void advancementOnly() {
+        CheckersLogic game = new CheckersLogic();
+        game.move(Move.parseMove("3a-4b"));
+        assertEquals(-1, new StandardEvaluator(0, 1, 0, 0).evaluate(game));
+    }
+
+    @Test
+    void incrementalMatchesFullEvaluation() {
+        StandardEvaluator evaluator = new StandardEvaluator();
+        Random random = new Random(18);
+        for (int game = 0; game < 20; ++game) {
+            CheckersLogic position = new CheckersLogic();
+            while (!position.isGameOver()) {
+                assertEquals(evaluator.evaluateFully(position), evaluator.evaluate(position));
+                position.makeMove(position.getPackedMove(random.nextInt(position.getMoveCount())));
+            }
+            while (position.getUndoCount() > 0) {
+                position.unmakeMove();
+                assertEquals(evaluator.evaluateFully(position), evaluator.evaluate(position));
+            }
+        }
+    }
+
+    @Test
+    void runningSumsSurviveCopyAndSetPosition() {
+        StandardEvaluator evaluator = new StandardEvaluator();
+        CheckersLogic game = new CheckersLogic();
+        evaluator.evaluate(game);
+        game.move(Move.parseMove("3a-4b"));
+        CheckersLogic copy = new CheckersLogic(game);
+        assertSame(evaluator.getPieceSquareTable(), copy.getPieceSquareTable());
+        assertEquals(game.getPieceSquareScore(Player.BLACK), copy.getPieceSquareScore(Player.BLACK));
+        copy.setPosition(1L << Board.fromSquareNumber(32), 1L << Board.fromSquareNumber(3), Player.WHITE);
+        PieceSquareTable table = evaluator.getPieceSquareTable();
+        assertEquals(table.sum(1L << Board.fromSquareNumber(32), Player.WHITE), copy.getPieceSquareScore(Player.WHITE));
+        assertEquals(evaluator.evaluateFully(copy), evaluator.evaluate(copy));
+    }
+}
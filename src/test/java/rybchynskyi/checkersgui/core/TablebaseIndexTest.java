@@ -0,0 +1,37 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TablebaseIndexTest {
+    @Test
+    void sizes() {
+        assertEquals(32, TablebaseIndex.size(1, 0));
+        assertEquals(32 * 31, TablebaseIndex.size(1, 1));
+        assertEquals(496 * 435, TablebaseIndex.size(2, 2));
+    }
+
+    @Test
+    void roundTripEveryIndex() {
+        int size = TablebaseIndex.size(2, 2);
+        for (int index = 0; index < size; ++index) {
+            long white = TablebaseIndex.white(index, 2, 2);
+            long black = TablebaseIndex.black(index, white, 2);
+            assertEquals(2, Long.bitCount(white));
+            assertEquals(2, Long.bitCount(black));
+            assertEquals(0, white & black);
+            assertEquals(0, (white | black) & ~Board.DARK_SQUARES);
+            assertEquals(index, TablebaseIndex.index(white, black));
+        }
+    }
+
+    @Test
+    void startPositionCorners() {
+        long white = 1L << Board.fromSquareNumber(32);
+        long black = 1L << Board.fromSquareNumber(1);
+        int index = TablebaseIndex.index(white, black);
+        assertEquals(white, TablebaseIndex.white(index, 1, 1));
+        assertEquals(black, TablebaseIndex.black(index, white, 1));
+    }
+}
@@ -0,0 +1,117 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TablebaseTest {
+    private static final int PIECES = 3;
+
+    private static Path directory;
+    private static Tablebase tablebase;
+
+    @BeforeAll
+    static void generate() throws IOException {
+        directory = Files.createTempDirectory("tablebase");
+        TablebaseGenerator generator = new TablebaseGenerator(PIECES, 2);
+        generator.generate();
+        generator.write(directory);
+        tablebase = new Tablebase(directory);
+    }
+
+    /**
+     * Solves a position by exhaustive search, the reference for the retrograde values
+     */
+    private static int solve(CheckersLogic position) {
+        CompoundMoveList moves = new CompoundMoveList();
+        position.getCompoundMoves(moves);
+        if (moves.isEmpty()) return Tablebase.encode(false, 0);
+        int quickestWin = Integer.MAX_VALUE;
+        int slowestLoss = 0;
+        for (int i = 0; i < moves.size(); ++i) {
+            position.makeCompoundMove(moves, i);
+            int child = solve(position);
+            position.unmakeCompoundMove();
+            if (Tablebase.isWin(child)) {
+                slowestLoss = Math.max(slowestLoss, Tablebase.distance(child) + 1);
+            } else {
+                quickestWin = Math.min(quickestWin, Tablebase.distance(child) + 1);
+            }
+        }
+        return quickestWin != Integer.MAX_VALUE ? Tablebase.encode(true, quickestWin)
+                : Tablebase.encode(false, slowestLoss);
+    }
+
+    @Test
+    void matchesExhaustiveSearch() {
+        for (int white = 0; white <= PIECES; ++white) {
+            int black = PIECES - white;
+            int size = TablebaseIndex.size(white, black);
+            for (int index = 0; index < size; index += 13) {
+                long whitePieces = TablebaseIndex.white(index, white, black);
+                long blackPieces = TablebaseIndex.black(index, whitePieces, black);
+                for (Player toMove : Player.values()) {
+                    CheckersLogic position = new CheckersLogic(whitePieces, blackPieces, toMove);
+                    assertEquals(solve(position), tablebase.probe(position), position.getFen());
+                }
+            }
+        }
+    }
+
+    @Test
+    void coverage() {
+        assertEquals(PIECES, tablebase.getMaxPieces());
+        assertEquals(Tablebase.UNKNOWN, tablebase.probe(new CheckersLogic()));
+        assertThrows(IllegalArgumentException.class, () -> new Tablebase(Files.createTempDirectory("empty")));
+    }
+
+    @Test
+    void knownEnding() {
+        // Black on 18 jumps the white man on 14 and leaves white without pieces
+        int value = tablebase.probe(CheckersLogic.parseFen("B:W19:B15"));
+        assertTrue(Tablebase.isWin(value));
+        assertEquals(1, Tablebase.distance(value));
+        assertEquals(Tablebase.encode(false, 0), tablebase.probe(CheckersLogic.parseFen("W:W:B22")));
+    }
+
+    @Test
+    void sameResultWithOneThread() throws IOException {
+        Path single = Files.createTempDirectory("tablebase");
+        TablebaseGenerator generator = new TablebaseGenerator(PIECES, 1);
+        generator.generate();
+        generator.write(single);
+        for (int white = 0; white <= PIECES; ++white) {
+            assertArrayEquals(Files.readAllBytes(Tablebase.fileOf(directory, white, PIECES - white)),
+                    Files.readAllBytes(Tablebase.fileOf(single, white, PIECES - white)));
+        }
+    }
+
+    @Test
+    void computerPlaysTablebaseWin() {
+        CheckersLogic game = CheckersLogic.parseFen("B:W19:B15");
+        CheckersComputerPlayer player = new CheckersComputerPlayer(game);
+        player.setTablebase(tablebase);
+        Move move = player.calculateMove();
+        game.move(move);
+        assertTrue(game.isGameOver());
+        assertEquals(0, player.getNodesSearched());
+    }
+
+    @Test
+    void searchScoresFromTablebase() {
+        CheckersLogic game = CheckersLogic.parseFen("B:W27,28:B6");
+        AlphaBetaSearch search = new AlphaBetaSearch(game, new StandardEvaluator(), null);
+        search.setTablebase(tablebase);
+        int score = search.search(2);
+        assertTrue(search.getTablebaseHits() > 0);
+        int value = tablebase.probe(game);
+        int expected = Tablebase.isWin(value) ? AlphaBetaSearch.WIN_SCORE - Tablebase.distance(value)
+                : -AlphaBetaSearch.WIN_SCORE + Tablebase.distance(value);
+        assertEquals(expected, score);
+    }
+}
@@ -0,0 +1,47 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TournamentTest {
+    private static final Function<CheckersLogic, CheckersComputerPlayer> DEPTH_2 =
+            logic -> new CheckersComputerPlayer(logic, 2, new StandardEvaluator(), new TranspositionTable(1));
+
+    @Test
+    void identicalPlayersSplitEveryPair() {
+        // Deterministic players replay the same game with swapped colours, so each wins one game of a pair
+        Tournament tournament = new Tournament(DEPTH_2, DEPTH_2, 2);
+        tournament.setOpening(4, 7);
+        TournamentResult result = tournament.play(6);
+        assertEquals(6, result.games());
+        assertEquals(3, result.firstWins());
+        assertEquals(3, result.secondWins());
+        assertEquals(result.firstMoves(), result.secondMoves());
+        assertTrue(result.gamesPerSecond() > 0);
+        assertTrue(result.firstMoveMicros() > 0);
+    }
+
+    @Test
+    void resultDoesNotDependOnThreads() {
+        Function<CheckersLogic, CheckersComputerPlayer> depth1 =
+                logic -> new CheckersComputerPlayer(logic, 1, new StandardEvaluator(), new TranspositionTable(1));
+        Tournament serial = new Tournament(DEPTH_2, depth1, 1);
+        Tournament parallel = new Tournament(DEPTH_2, depth1, 4);
+        serial.setOpening(6, 3);
+        parallel.setOpening(6, 3);
+        TournamentResult serialResult = serial.play(8);
+        TournamentResult parallelResult = parallel.play(8);
+        assertEquals(serialResult.firstWins(), parallelResult.firstWins());
+        assertEquals(serialResult.firstMoves(), parallelResult.firstMoves());
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(DEPTH_2, DEPTH_2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(DEPTH_2, DEPTH_2, 1).play(0));
+        assertThrows(IllegalArgumentException.class, () -> new Tournament(DEPTH_2, DEPTH_2, 1).setOpening(-1, 0));
+    }
+}
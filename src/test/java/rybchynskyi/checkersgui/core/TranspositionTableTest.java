@@ -0,0 +1,71 @@
+package rybchynskyi.checkersgui.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    TranspositionTable table;
+
+    @BeforeEach
+    void init() {
+        table = new TranspositionTable(1);
+    }
+
+    @Test
+    void capacity() {
+        assertEquals(65536, table.getCapacity());
+    }
+
+    @Test
+    void invalidSize() {
+        assertThrows(IllegalArgumentException.class, () -> new TranspositionTable(0));
+    }
+
+    @Test
+    void storeAndProbe() {
+        table.store(12345L, 0x321, -150, 7, TranspositionTable.BOUND_LOWER);
+        long entry = table.probe(12345L);
+        assertNotEquals(TranspositionTable.MISS, entry);
+        assertEquals(0x321, TranspositionTable.move(entry));
+        assertEquals(-150, TranspositionTable.score(entry));
+        assertEquals(7, TranspositionTable.depth(entry));
+        assertEquals(TranspositionTable.BOUND_LOWER, TranspositionTable.bound(entry));
+    }
+
+    @Test
+    void missAndCollision() {
+        assertEquals(TranspositionTable.MISS, table.probe(42L));
+        table.store(42L, 1, 0, 1, TranspositionTable.BOUND_EXACT);
+        long sameSlot = 42L + table.getCapacity();
+        assertEquals(TranspositionTable.MISS, table.probe(sameSlot));
+        assertEquals(1, table.getCollisions());
+        assertEquals(2, table.getProbes());
+        assertEquals(0, table.getHits());
+    }
+
+    @Test
+    void depthPreferredReplacement() {
+        long other = 42L + table.getCapacity();
+        table.store(42L, 1, 10, 8, TranspositionTable.BOUND_EXACT);
+        table.store(other, 2, 20, 3, TranspositionTable.BOUND_EXACT);
+        assertEquals(8, TranspositionTable.depth(table.probe(42L)));
+        table.newSearch();
+        table.store(other, 2, 20, 3, TranspositionTable.BOUND_EXACT);
+        assertEquals(3, TranspositionTable.depth(table.probe(other)));
+    }
+
+    @Test
+    void statistics() {
+        table.store(1L, 1, 0, 1, TranspositionTable.BOUND_EXACT);
+        table.probe(1L);
+        table.probe(2L);
+        assertEquals(0.5, table.getHitRate(), 1e-9);
+        assertEquals(1.0 / table.getCapacity(), table.getFillRatio(), 1e-12);
+        table.clear();
+        assertEquals(0, table.getProbes());
+        assertEquals(0.0, table.getFillRatio(), 0);
+    }
+}